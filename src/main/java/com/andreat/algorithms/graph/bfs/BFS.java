@@ -1,5 +1,8 @@
 package com.andreat.algorithms.graph.bfs;
 
+import com.andreat.data_structures.CsrGraph;
+
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.Set;
@@ -68,6 +71,42 @@ public class BFS {
         System.out.println();
     }
 
+    /**
+     * Performs Breadth-First Search (BFS) on a {@link CsrGraph} starting from
+     * the given node. The queue is a plain int array, since every vertex enters
+     * it at most once.
+     *
+     * @param graph     the graph to traverse.
+     * @param startNode the vertex from which to start the BFS traversal.
+     * @return the reachable vertices in the order they were visited.
+     * @throws IllegalArgumentException if the startNode is invalid.
+     */
+    public static int[] breadthFirstSearch(CsrGraph graph, int startNode) {
+        if(startNode < 0 || startNode >= graph.numVertices()){
+            throw new IllegalArgumentException("Invalid start node.");
+        }
+        boolean[] visited = new boolean[graph.numVertices()];
+        int[] queue = new int[graph.numVertices()];
+        int head = 0;
+        int tail = 0;
+
+        visited[startNode] = true;
+        queue[tail++] = startNode;
+
+        while(head < tail){
+            int currentNode = queue[head++];
+
+            for (int e = graph.edgeBegin(currentNode); e < graph.edgeEnd(currentNode); e++) {
+                int neighbor = graph.target(e);
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return Arrays.copyOf(queue, tail);
+    }
+
     /**
      * The main method demonstrates the usage of the {@code BFS} class.
      * It creates a sample graph and performs BFS starting from node 0.
@@ -87,5 +126,11 @@ public class BFS {
 
         System.out.println("BFS starting from node 0:");
         graph.breadthFirstSearch(0); // Output: 0 1 2 3 4 5
+
+        CsrGraph csrGraph = CsrGraph.fromEdges(6,
+                new int[]{0, 0, 1, 2, 2, 3, 4},
+                new int[]{1, 2, 3, 3, 4, 5, 5},
+                null);
+        System.out.println("BFS on the CSR graph: " + Arrays.toString(breadthFirstSearch(csrGraph, 0)));
     }
 }
@@ -0,0 +1,204 @@
+package com.andreat.algorithms.graph.connectedcomponents;
+
+import com.andreat.data_structures.RollbackUnionFind;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code OfflineDynamicConnectivity} class answers connectivity queries on
+ * an undirected graph whose edges are added and removed over time, once the
+ * whole sequence of operations is known. Every edge is alive during an
+ * interval of operations; the intervals are stored in a segment tree over
+ * time, which is visited depth-first while a {@link RollbackUnionFind} applies
+ * the edges of each node on the way down and undoes them on the way up.
+ */
+public class OfflineDynamicConnectivity {
+
+    private static final int ADD = 0;
+    private static final int REMOVE = 1;
+    private static final int QUERY = 2;
+
+    private final int numVertices;
+    private int[] types;
+    private int[] firstVertices;
+    private int[] secondVertices;
+    private int numOperations;
+    private int numQueries;
+
+    /**
+     * Constructs an {@code OfflineDynamicConnectivity} object for a graph with
+     * a specified number of vertices and no edges.
+     *
+     * @param numVertices the total number of vertices in the graph.
+     */
+    public OfflineDynamicConnectivity(int numVertices) {
+        this.numVertices = numVertices;
+        types = new int[16];
+        firstVertices = new int[16];
+        secondVertices = new int[16];
+        numOperations = 0;
+        numQueries = 0;
+    }
+
+    /**
+     * Records the addition of an undirected edge. The same edge may be added
+     * several times; each copy needs its own removal.
+     *
+     * @param u one endpoint of the edge.
+     * @param v the other endpoint of the edge.
+     */
+    public void addEdge(int u, int v) {
+        record(ADD, u, v);
+    }
+
+    /**
+     * Records the removal of an undirected edge previously added.
+     *
+     * @param u one endpoint of the edge.
+     * @param v the other endpoint of the edge.
+     */
+    public void removeEdge(int u, int v) {
+        record(REMOVE, u, v);
+    }
+
+    /**
+     * Records a query asking whether two vertices are connected at this point
+     * of the sequence.
+     *
+     * @param u the first vertex.
+     * @param v the second vertex.
+     * @return the index of this query in the array returned by {@link #solve()}.
+     */
+    public int query(int u, int v) {
+        record(QUERY, u, v);
+        return numQueries++;
+    }
+
+    private void record(int type, int u, int v) {
+        if (u < 0 || u >= numVertices || v < 0 || v >= numVertices) {
+            throw new IllegalArgumentException("Invalid vertices: " + u + ", " + v);
+        }
+        if (numOperations == types.length) {
+            types = Arrays.copyOf(types, numOperations * 2);
+            firstVertices = Arrays.copyOf(firstVertices, numOperations * 2);
+            secondVertices = Arrays.copyOf(secondVertices, numOperations * 2);
+        }
+        types[numOperations] = type;
+        firstVertices[numOperations] = Math.min(u, v);
+        secondVertices[numOperations] = Math.max(u, v);
+        numOperations++;
+    }
+
+    /**
+     * Answers all recorded queries in O((n + m log m) log n) time, where m is
+     * the number of operations.
+     *
+     * @return the answer to each query, in the order the queries were recorded.
+     * @throws IllegalStateException if an edge is removed without being present.
+     */
+    public boolean[] solve() {
+        boolean[] answers = new boolean[numQueries];
+        if (numOperations == 0) {
+            return answers;
+        }
+
+        // Edges alive in a whole segment tree node, as indexes of their ADD operation;
+        // null for nodes without edges
+        List<List<Integer>> segments = new ArrayList<>(Collections.nCopies(4 * numOperations, (List<Integer>) null));
+        Map<Long, ArrayDeque<Integer>> openEdges = new HashMap<>();
+        for (int i = 0; i < numOperations; i++) {
+            long key = (long) firstVertices[i] * numVertices + secondVertices[i];
+            if (types[i] == ADD) {
+                openEdges.computeIfAbsent(key, k -> new ArrayDeque<>()).push(i);
+            } else if (types[i] == REMOVE) {
+                ArrayDeque<Integer> added = openEdges.get(key);
+                if (added == null || added.isEmpty()) {
+                    throw new IllegalStateException("Edge " + firstVertices[i] + " -- " + secondVertices[i]
+                            + " removed at operation " + i + " but not present");
+                }
+                int start = added.pop();
+                insertInterval(segments, 1, 0, numOperations, start, i, start);
+            }
+        }
+        for (ArrayDeque<Integer> added : openEdges.values()) {
+            for (int start : added) {
+                insertInterval(segments, 1, 0, numOperations, start, numOperations, start);
+            }
+        }
+
+        int[] queryIndexes = new int[numOperations];
+        for (int i = 0, q = 0; i < numOperations; i++) {
+            queryIndexes[i] = types[i] == QUERY ? q++ : -1;
+        }
+
+        visit(segments, 1, 0, numOperations, new RollbackUnionFind(numVertices), queryIndexes, answers);
+        return answers;
+    }
+
+    // Stores edge in every maximal node covering part of [from, to) within [lo, hi)
+    private void insertInterval(List<List<Integer>> segments, int node, int lo, int hi, int from, int to, int edge) {
+        if (to <= lo || hi <= from) {
+            return;
+        }
+        if (from <= lo && hi <= to) {
+            if (segments.get(node) == null) {
+                segments.set(node, new ArrayList<>());
+            }
+            segments.get(node).add(edge);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        insertInterval(segments, 2 * node, lo, mid, from, to, edge);
+        insertInterval(segments, 2 * node + 1, mid, hi, from, to, edge);
+    }
+
+    private void visit(List<List<Integer>> segments, int node, int lo, int hi,
+                       RollbackUnionFind unionFind, int[] queryIndexes, boolean[] answers) {
+        int snapshot = unionFind.snapshot();
+        if (segments.get(node) != null) {
+            for (int edge : segments.get(node)) {
+                unionFind.union(firstVertices[edge], secondVertices[edge]);
+            }
+        }
+
+        if (hi - lo == 1) {
+            if (queryIndexes[lo] >= 0) {
+                answers[queryIndexes[lo]] = unionFind.connected(firstVertices[lo], secondVertices[lo]);
+            }
+        } else {
+            int mid = (lo + hi) >>> 1;
+            visit(segments, 2 * node, lo, mid, unionFind, queryIndexes, answers);
+            visit(segments, 2 * node + 1, mid, hi, unionFind, queryIndexes, answers);
+        }
+
+        unionFind.rollback(snapshot);
+    }
+
+    /**
+     * The main method demonstrates the usage of the
+     * {@code OfflineDynamicConnectivity} class on a small sequence of edge
+     * additions, removals and queries.
+     *
+     * @param args command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        OfflineDynamicConnectivity graph = new OfflineDynamicConnectivity(5);
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.query(0, 2);
+        graph.removeEdge(1, 2);
+        graph.query(0, 2);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 0);
+        graph.query(0, 2);
+        graph.query(1, 4);
+
+        System.out.println("Answers: " + Arrays.toString(graph.solve()));
+    }
+}
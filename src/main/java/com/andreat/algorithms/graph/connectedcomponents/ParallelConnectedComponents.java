@@ -0,0 +1,183 @@
+package com.andreat.algorithms.graph.connectedcomponents;
+
+import com.andreat.data_structures.ConcurrentUnionFind;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The {@code ParallelConnectedComponents} class computes the connected
+ * components of an undirected graph by splitting its edge list among several
+ * threads, which all merge endpoints into a shared lock-free union-find.
+ */
+public class ParallelConnectedComponents {
+
+    private final int numVertices;
+    private int[] sources;
+    private int[] targets;
+    private int numEdges;
+
+    /**
+     * Constructs a {@code ParallelConnectedComponents} object with a specified
+     * number of vertices. The graph is stored as two parallel arrays of edge
+     * endpoints.
+     *
+     * @param numVertices the total number of vertices in the graph.
+     */
+    public ParallelConnectedComponents(int numVertices) {
+        this.numVertices = numVertices;
+        sources = new int[16];
+        targets = new int[16];
+        numEdges = 0;
+    }
+
+    /**
+     * Adds an undirected edge to the graph.
+     *
+     * @param u one endpoint of the edge.
+     * @param v the other endpoint of the edge.
+     */
+    public void addEdge(int u, int v) {
+        if (u < 0 || u >= numVertices || v < 0 || v >= numVertices) {
+            throw new IllegalArgumentException("Invalid edge: " + u + " -- " + v);
+        }
+        if (numEdges == sources.length) {
+            sources = Arrays.copyOf(sources, numEdges * 2);
+            targets = Arrays.copyOf(targets, numEdges * 2);
+        }
+        sources[numEdges] = u;
+        targets[numEdges] = v;
+        numEdges++;
+    }
+
+    /**
+     * Labels every vertex with the representative of its connected component.
+     *
+     * @param numThreads the number of threads that process the edges.
+     * @return an array where two vertices have the same label if and only if
+     * they are connected.
+     */
+    public int[] findComponents(int numThreads) {
+        return findComponents(numVertices, sources, targets, numEdges, numThreads);
+    }
+
+    /**
+     * Labels every vertex of a graph given as edge arrays with the
+     * representative of its connected component. Each thread unions a
+     * contiguous slice of the edges, then labels a contiguous slice of the
+     * vertices once all unions are done.
+     *
+     * @param numVertices the total number of vertices in the graph.
+     * @param sources     the first endpoint of each edge.
+     * @param targets     the second endpoint of each edge.
+     * @param numEdges    the number of edges to read from the arrays.
+     * @param numThreads  the number of threads to use.
+     * @return the component label of each vertex.
+     * @throws IllegalArgumentException if numThreads is less than 1, if
+     * numEdges is negative or exceeds the length of either array, or if an
+     * edge has an endpoint outside [0, numVertices).
+     */
+    public static int[] findComponents(int numVertices, int[] sources, int[] targets, int numEdges, int numThreads) {
+        if (numThreads < 1) {
+            throw new IllegalArgumentException("At least one thread is required.");
+        }
+        if (numVertices < 0) {
+            throw new IllegalArgumentException("Number of vertices cannot be negative.");
+        }
+        if (numEdges < 0 || numEdges > sources.length || numEdges > targets.length) {
+            throw new IllegalArgumentException("Invalid number of edges: " + numEdges);
+        }
+        for (int e = 0; e < numEdges; e++) {
+            int u = sources[e];
+            int v = targets[e];
+            if (u < 0 || u >= numVertices || v < 0 || v >= numVertices) {
+                throw new IllegalArgumentException("Invalid edge: " + u + " -- " + v);
+            }
+        }
+        ConcurrentUnionFind unionFind = new ConcurrentUnionFind(numVertices);
+        runInParallel(numEdges, numThreads, (from, to) -> {
+            for (int e = from; e < to; e++) {
+                unionFind.union(sources[e], targets[e]);
+            }
+        });
+
+        int[] labels = new int[numVertices];
+        runInParallel(numVertices, numThreads, (from, to) -> {
+            for (int v = from; v < to; v++) {
+                labels[v] = unionFind.find(v);
+            }
+        });
+        return labels;
+    }
+
+    private interface RangeTask {
+        void run(int from, int to);
+    }
+
+    /**
+     * Splits [0, n) into one contiguous slice per thread and runs the task on
+     * each slice. The first failure of any slice is rethrown once all threads
+     * have finished, with later failures attached as suppressed exceptions.
+     */
+    private static void runInParallel(int n, int numThreads, RangeTask task) {
+        int threads = Math.max(1, Math.min(numThreads, n));
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] workers = new Thread[threads - 1];
+        for (int t = 1; t < threads; t++) {
+            int from = (int) ((long) n * t / threads);
+            int to = (int) ((long) n * (t + 1) / threads);
+            workers[t - 1] = new Thread(() -> runSlice(task, from, to, failure));
+            workers[t - 1].start();
+        }
+        // The calling thread handles the first slice itself
+        runSlice(task, 0, (int) ((long) n / threads), failure);
+
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while computing components", e);
+            }
+        }
+
+        Throwable thrown = failure.get();
+        if (thrown instanceof RuntimeException) {
+            throw (RuntimeException) thrown;
+        }
+        if (thrown instanceof Error) {
+            throw (Error) thrown;
+        }
+    }
+
+    private static void runSlice(RangeTask task, int from, int to, AtomicReference<Throwable> failure) {
+        try {
+            task.run(from, to);
+        } catch (Throwable t) {
+            if (!failure.compareAndSet(null, t)) {
+                failure.get().addSuppressed(t);
+            }
+        }
+    }
+
+    /**
+     * The main method demonstrates the usage of the
+     * {@code ParallelConnectedComponents} class. It builds a graph with three
+     * components and labels it using four threads.
+     *
+     * @param args command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        ParallelConnectedComponents graph = new ParallelConnectedComponents(8);
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(3, 4);
+        graph.addEdge(5, 6);
+        graph.addEdge(6, 7);
+        graph.addEdge(7, 5);
+
+        int[] labels = graph.findComponents(4);
+        System.out.println("Component labels: " + Arrays.toString(labels));
+        System.out.println("Number of components: " + Arrays.stream(labels).distinct().count());
+    }
+}
@@ -1,5 +1,8 @@
 package com.andreat.algorithms.graph.dfs;
 
+import com.andreat.data_structures.CsrGraph;
+
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -94,6 +97,51 @@ public class DFS {
         System.out.println();
     }
 
+    /**
+     * Performs Depth First Search (DFS) on a {@link CsrGraph} starting from the
+     * given node. It visits the vertices in the same order as the recursive
+     * version, but keeps the position in each vertex's edge list on an explicit
+     * stack, so deep graphs cannot overflow the call stack.
+     *
+     * @param graph     the graph to traverse.
+     * @param startNode the vertex from which to start the DFS traversal.
+     * @return the reachable vertices in the order they were visited.
+     * @throws IllegalArgumentException if the startNode is invalid.
+     */
+    public static int[] depthFirstSearch(CsrGraph graph, int startNode){
+        if(startNode < 0 || startNode >= graph.numVertices()){
+            throw new IllegalArgumentException("Invalid start node.");
+        }
+        int numVertices = graph.numVertices();
+        boolean[] visited = new boolean[numVertices];
+        int[] order = new int[numVertices];
+        int visitedCount = 0;
+        int[] stack = new int[numVertices];
+        int[] nextEdge = new int[numVertices];
+        int top = 0;
+
+        visited[startNode] = true;
+        order[visitedCount++] = startNode;
+        stack[top++] = startNode;
+        nextEdge[startNode] = graph.edgeBegin(startNode);
+
+        while (top > 0) {
+            int currentNode = stack[top - 1];
+            if (nextEdge[currentNode] == graph.edgeEnd(currentNode)) {
+                top--;
+                continue;
+            }
+            int neighbor = graph.target(nextEdge[currentNode]++);
+            if (!visited[neighbor]) {
+                visited[neighbor] = true;
+                order[visitedCount++] = neighbor;
+                stack[top++] = neighbor;
+                nextEdge[neighbor] = graph.edgeBegin(neighbor);
+            }
+        }
+        return Arrays.copyOf(order, visitedCount);
+    }
+
     /**
      * The main method demonstrates the usage of the {@code DFS} class.
      * It creates a sample graph and performs both recursive and iterative DFS
@@ -117,6 +165,12 @@ public class DFS {
 
         System.out.println("\nDFS (Iterative) starting from node 0:");
         graph.depthFirstSearchIterative(0);
+
+        CsrGraph csrGraph = CsrGraph.fromEdges(6,
+                new int[]{0, 0, 1, 2, 2, 3, 4},
+                new int[]{1, 2, 3, 3, 4, 5, 5},
+                null);
+        System.out.println("\nDFS on the CSR graph: " + Arrays.toString(depthFirstSearch(csrGraph, 0)));
     }
 
 
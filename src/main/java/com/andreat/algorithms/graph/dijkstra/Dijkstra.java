@@ -1,5 +1,8 @@
 package com.andreat.algorithms.graph.dijkstra;
 
+import com.andreat.data_structures.CsrGraph;
+import com.andreat.data_structures.IndexedMinHeap;
+
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -104,6 +107,112 @@ public class Dijkstra {
         return distances;
     }
 
+    /**
+     * Finds the shortest paths from the given source node to all other nodes,
+     * optionally using an {@link IndexedMinHeap}. The indexed heap holds each
+     * vertex at most once and lowers its key in place, instead of queuing a
+     * new entry for every improved distance.
+     *
+     * @param startNode      the source vertex from which to find the shortest paths.
+     * @param useIndexedHeap {@code true} to use the indexed heap, {@code false}
+     *                       for the default {@link PriorityQueue}.
+     * @return an array of integers where the i-th element represents the shortest
+     * distance from the start node to vertex i. If a vertex is not
+     * reachable, its distance will be {@code Integer.MAX_VALUE}.
+     * @throws IllegalArgumentException if the startNode is invalid.
+     */
+    public int[] dijkstra(int startNode, boolean useIndexedHeap){
+        if(!useIndexedHeap){
+            return dijkstra(startNode);
+        }
+        if(startNode < 0 || startNode >= numVertices){
+            throw new IllegalArgumentException("Invalid start node.");
+        }
+
+        return dijkstra(numVertices, startNode, (u, visitor) -> {
+            for(Node neighborNode : adjacencyList.get(u)){
+                visitor.visit(neighborNode.neighbor, neighborNode.weight);
+            }
+        });
+    }
+
+    /**
+     * Finds the shortest paths from the given source node to all other nodes of
+     * a weighted {@link CsrGraph}, using an {@link IndexedMinHeap}. Edges are
+     * read straight from the graph's arrays, without boxing.
+     *
+     * @param graph     a weighted graph with non-negative weights.
+     * @param startNode the source vertex from which to find the shortest paths.
+     * @return an array of integers where the i-th element represents the shortest
+     * distance from the start node to vertex i. If a vertex is not
+     * reachable, its distance will be {@code Integer.MAX_VALUE}.
+     * @throws IllegalArgumentException if the startNode is invalid, the graph
+     * is unweighted or a reached edge has a negative weight.
+     */
+    public static int[] dijkstra(CsrGraph graph, int startNode){
+        int numVertices = graph.numVertices();
+        if(startNode < 0 || startNode >= numVertices){
+            throw new IllegalArgumentException("Invalid start node.");
+        }
+        if(!graph.isWeighted()){
+            throw new IllegalArgumentException("Graph must be weighted.");
+        }
+
+        return dijkstra(numVertices, startNode, (u, visitor) -> {
+            for(int e = graph.edgeBegin(u); e < graph.edgeEnd(u); e++){
+                int weight = graph.weight(e);
+                if(weight < 0){
+                    throw new IllegalArgumentException("Edge weight cannot be negative.");
+                }
+                visitor.visit(graph.target(e), weight);
+            }
+        });
+    }
+
+    private interface EdgeVisitor {
+        void visit(int v, int weight);
+    }
+
+    /**
+     * Lists the edges leaving a vertex, so the same heap loop can run on the
+     * adjacency list and on a {@link CsrGraph}.
+     */
+    private interface Neighbors {
+        void forEachEdge(int u, EdgeVisitor visitor);
+    }
+
+    /**
+     * Runs Dijkstra's algorithm with an {@link IndexedMinHeap}, reading the
+     * edges of each extracted vertex from {@code neighbors}.
+     */
+    private static int[] dijkstra(int numVertices, int startNode, Neighbors neighbors){
+        int[] distances = new int[numVertices];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        distances[startNode] = 0;
+
+        IndexedMinHeap minHeap = new IndexedMinHeap(numVertices);
+        minHeap.insert(startNode, 0);
+
+        while(!minHeap.isEmpty()){
+            int u = minHeap.extractMin();
+
+            neighbors.forEachEdge(u, (v, weight) -> {
+                int newDistance = distances[u] + weight;
+
+                if(newDistance < distances[v]){
+                    distances[v] = newDistance;
+                    if(minHeap.contains(v)){
+                        minHeap.decreaseKey(v, newDistance);
+                    } else {
+                        minHeap.insert(v, newDistance);
+                    }
+                }
+            });
+        }
+
+        return distances;
+    }
+
     /**
      * The main method demonstrates the usage of the {@code Dijkstra} class.
      * It creates a sample weighted graph and finds the shortest paths from node 0
@@ -130,5 +239,15 @@ public class Dijkstra {
         for (int i = 0; i < numVertices; i++) {
             System.out.println("To node " + i + ": " + (shortestDistances[i] == Integer.MAX_VALUE ? "Infinity" : shortestDistances[i]));
         }
+
+        System.out.println("Same distances using the indexed heap: "
+                + Arrays.equals(shortestDistances, graph.dijkstra(startNode, true)));
+
+        CsrGraph csrGraph = CsrGraph.fromEdges(numVertices,
+                new int[]{0, 0, 1, 1, 2, 2, 3, 4},
+                new int[]{1, 2, 3, 2, 3, 4, 5, 5},
+                new int[]{4, 2, 2, 5, 4, 1, 3, 3});
+        System.out.println("Same distances on the CSR graph: "
+                + Arrays.equals(shortestDistances, dijkstra(csrGraph, startNode)));
     }
 }
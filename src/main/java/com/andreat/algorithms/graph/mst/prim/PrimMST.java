@@ -1,5 +1,8 @@
 package com.andreat.algorithms.graph.mst.prim;
 
+import com.andreat.data_structures.CsrGraph;
+import com.andreat.data_structures.IndexedMinHeap;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -119,6 +122,130 @@ public class PrimMST {
         return mstEdges;
     }
 
+    /**
+     * Finds the Minimum Spanning Tree (MST) of the graph using Prim's algorithm,
+     * optionally using an {@link IndexedMinHeap}. With the indexed heap, a
+     * vertex whose key improves is updated in place in O(log V), instead of
+     * being removed from and re-added to the {@link PriorityQueue} in O(V).
+     *
+     * @param useIndexedHeap {@code true} to use the indexed heap, {@code false}
+     *                       for the default {@link PriorityQueue}.
+     * @return a list of edges that form the MST. Each element in the list is an
+     * array of three integers: {u, v, weight}, representing an edge between
+     * vertex u and vertex v with the given weight. Returns an empty list if
+     * the graph is empty or not connected.
+     */
+    public List<int[]> findMST(boolean useIndexedHeap){
+        if(!useIndexedHeap){
+            return findMST();
+        }
+        if(numVertices == 0){
+            return new ArrayList<>();
+        }
+
+        return findMST(numVertices, (u, visitor) -> {
+            for(Node neighborNode : adjacencyList.get(u)){
+                visitor.visit(neighborNode.neighbor, neighborNode.weight);
+            }
+        });
+    }
+
+    /**
+     * Finds the Minimum Spanning Tree (MST) of a {@link CsrGraph} using Prim's
+     * algorithm with an {@link IndexedMinHeap}. The graph must be weighted and
+     * contain every edge in both directions, as built by
+     * {@link CsrGraph#fromUndirectedEdges}.
+     *
+     * @param graph the weighted undirected graph.
+     * @return a list of edges that form the MST. Each element in the list is an
+     * array of three integers: {u, v, weight}, representing an edge between
+     * vertex u and vertex v with the given weight. Returns an empty list if
+     * the graph is empty or not connected.
+     * @throws IllegalArgumentException if the graph is unweighted or has a
+     * negative edge weight.
+     */
+    public static List<int[]> findMST(CsrGraph graph){
+        if(!graph.isWeighted()){
+            throw new IllegalArgumentException("Graph must be weighted");
+        }
+        int numVertices = graph.numVertices();
+        if(numVertices == 0){
+            return new ArrayList<>();
+        }
+
+        return findMST(numVertices, (u, visitor) -> {
+            for(int e = graph.edgeBegin(u); e < graph.edgeEnd(u); e++){
+                int weight = graph.weight(e);
+                if(weight < 0){
+                    throw new IllegalArgumentException("Edge weight cannot be negative");
+                }
+                visitor.visit(graph.target(e), weight);
+            }
+        });
+    }
+
+    private interface EdgeVisitor {
+        void visit(int v, int weight);
+    }
+
+    /**
+     * Lists the edges leaving a vertex, so the same heap loop can run on the
+     * adjacency list and on a {@link CsrGraph}.
+     */
+    private interface Neighbors {
+        void forEachEdge(int u, EdgeVisitor visitor);
+    }
+
+    /**
+     * Runs Prim's algorithm from vertex 0 with an {@link IndexedMinHeap},
+     * reading the edges of each extracted vertex from {@code neighbors}.
+     */
+    private static List<int[]> findMST(int numVertices, Neighbors neighbors){
+        boolean[] inMST = new boolean[numVertices];
+        int[] parent = new int[numVertices];
+        int[] key = new int[numVertices];
+        Arrays.fill(key, Integer.MAX_VALUE);
+
+        // Start with the first vertex
+        key[0] = 0;
+        parent[0] = -1; // Root of MST
+
+        IndexedMinHeap minHeap = new IndexedMinHeap(numVertices);
+        minHeap.insert(0, 0);
+        int added = 0;
+
+        while(!minHeap.isEmpty()){
+            int u = minHeap.extractMin();
+            inMST[u] = true;
+            added++;
+
+            neighbors.forEachEdge(u, (v, weight) -> {
+                if(!inMST[v] && weight < key[v]){
+                    parent[v] = u;
+                    key[v] = weight;
+                    if(minHeap.contains(v)){
+                        minHeap.decreaseKey(v, weight);
+                    } else {
+                        minHeap.insert(v, weight);
+                    }
+                }
+            });
+        }
+
+        if(added < numVertices){
+            System.out.println("Warning: Graph might not be connected");
+            return new ArrayList<>();
+        }
+
+        // Construct the MST edges from the parent array
+        List<int[]> mstEdges = new ArrayList<>();
+        for(int i = 1; i < numVertices; i++){
+            mstEdges.add(new int[]{parent[i], i, key[i]});
+        }
+
+        return mstEdges;
+    }
+
     /**
      * The main method demonstrates the usage of the {@code PrimMST} class.
      * It creates a sample weighted undirected graph and finds its MST.
@@ -149,6 +276,22 @@ public class PrimMST {
             mstWeight += edge[2];
         }
         System.out.println("Total weight of MST: " + mstWeight);
+
+        int indexedWeight = 0;
+        for (int[] edge : graph.findMST(true)) {
+            indexedWeight += edge[2];
+        }
+        System.out.println("Total weight of MST using the indexed heap: " + indexedWeight);
+
+        CsrGraph csrGraph = CsrGraph.fromUndirectedEdges(numVertices,
+                new int[]{0, 0, 1, 1, 2, 2, 3, 3, 4, 4, 5},
+                new int[]{1, 2, 2, 3, 3, 4, 5, 4, 5, 6, 6},
+                new int[]{7, 8, 3, 6, 4, 3, 1, 2, 5, 2, 6});
+        int csrWeight = 0;
+        for (int[] edge : findMST(csrGraph)) {
+            csrWeight += edge[2];
+        }
+        System.out.println("Total weight of MST on the CSR graph: " + csrWeight);
     }
 
 }
@@ -1,5 +1,7 @@
 package com.andreat.algorithms.graph.scc.kosaraju;
 
+import com.andreat.data_structures.CsrGraph;
+
 import java.util.*;
 
 /**
@@ -129,6 +131,81 @@ public class KosarajuSCC {
         }
     }
 
+    /**
+     * Finds the strongly connected components (SCCs) of a {@link CsrGraph}
+     * using Kosaraju's algorithm. Both depth-first passes keep the position in
+     * each vertex's edge list on an explicit stack, so deep graphs cannot
+     * overflow the call stack.
+     *
+     * @param graph the directed graph.
+     * @return an array holding, for every vertex, the index of its SCC. SCCs are
+     * numbered from 0 in the order they are found.
+     */
+    public static int[] findSCCs(CsrGraph graph){
+        int numVertices = graph.numVertices();
+        boolean[] visited = new boolean[numVertices];
+        int[] finishOrder = new int[numVertices];
+        int finished = 0;
+        int[] stack = new int[numVertices];
+        int[] nextEdge = new int[numVertices];
+
+        // Step 1: Record vertices in the order they are finished in DFS
+        for (int i = 0; i < numVertices; i++) {
+            if (visited[i]) {
+                continue;
+            }
+            int top = 0;
+            visited[i] = true;
+            stack[top++] = i;
+            nextEdge[i] = graph.edgeBegin(i);
+            while (top > 0) {
+                int v = stack[top - 1];
+                if (nextEdge[v] == graph.edgeEnd(v)) {
+                    finishOrder[finished++] = v;
+                    top--;
+                    continue;
+                }
+                int neighbor = graph.target(nextEdge[v]++);
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    stack[top++] = neighbor;
+                    nextEdge[neighbor] = graph.edgeBegin(neighbor);
+                }
+            }
+        }
+
+        // Step 2: Get the transpose of the graph
+        CsrGraph transposeGraph = graph.transpose();
+
+        /* Step 3: Visit the transpose graph in decreasing finish time. Every
+         * vertex reached from an unassigned vertex belongs to its SCC.
+         */
+        int[] component = new int[numVertices];
+        Arrays.fill(component, -1);
+        int numComponents = 0;
+        for (int i = numVertices - 1; i >= 0; i--) {
+            int root = finishOrder[i];
+            if (component[root] != -1) {
+                continue;
+            }
+            int top = 0;
+            component[root] = numComponents;
+            stack[top++] = root;
+            while (top > 0) {
+                int v = stack[--top];
+                for (int e = transposeGraph.edgeBegin(v); e < transposeGraph.edgeEnd(v); e++) {
+                    int neighbor = transposeGraph.target(e);
+                    if (component[neighbor] == -1) {
+                        component[neighbor] = numComponents;
+                        stack[top++] = neighbor;
+                    }
+                }
+            }
+            numComponents++;
+        }
+        return component;
+    }
+
     /**
      * The main method demonstrates the usage of the {@code KosarajuSCC} class.
      * It creates a sample directed graph and finds its strongly connected components.
@@ -145,5 +222,11 @@ public class KosarajuSCC {
         graph.addEdge(3, 4);
 
         graph.findSCCs();
+
+        CsrGraph csrGraph = CsrGraph.fromEdges(numVertices,
+                new int[]{1, 0, 2, 0, 3},
+                new int[]{0, 2, 1, 3, 4},
+                null);
+        System.out.println("SCC of each vertex of the CSR graph: " + Arrays.toString(findSCCs(csrGraph)));
     }
 }
@@ -1,5 +1,7 @@
 package com.andreat.algorithms.graph.scc.tarjan;
 
+import com.andreat.data_structures.CsrGraph;
+
 import java.util.*;
 
 /**
@@ -94,6 +96,77 @@ public class TarjanSCC {
         }
     }
 
+    /**
+     * Finds the strongly connected components (SCCs) of a {@link CsrGraph}
+     * using Tarjan's algorithm. The recursion of {@link #tarjanSCCUtil} is
+     * replaced by an explicit stack holding each vertex being visited and its
+     * position in its edge list, so deep graphs cannot overflow the call stack.
+     *
+     * @param graph the directed graph.
+     * @return an array holding, for every vertex, the index of its SCC. SCCs are
+     * numbered from 0 in the order they are completed, which is a reverse
+     * topological order of the condensed graph.
+     */
+    public static int[] findSCCs(CsrGraph graph) {
+        int numVertices = graph.numVertices();
+        int[] discoveryTime = new int[numVertices];
+        int[] lowLink = new int[numVertices];
+        boolean[] onStack = new boolean[numVertices];
+        int[] sccStack = new int[numVertices];
+        int sccTop = 0;
+        int[] callStack = new int[numVertices];
+        int[] nextEdge = new int[numVertices];
+        int[] component = new int[numVertices];
+        int numComponents = 0;
+        int time = 0;
+
+        for (int i = 0; i < numVertices; i++) {
+            if (discoveryTime[i] != 0) {
+                continue;
+            }
+            int callTop = 0;
+            discoveryTime[i] = lowLink[i] = ++time;
+            sccStack[sccTop++] = i;
+            onStack[i] = true;
+            callStack[callTop++] = i;
+            nextEdge[i] = graph.edgeBegin(i);
+
+            while (callTop > 0) {
+                int u = callStack[callTop - 1];
+                if (nextEdge[u] < graph.edgeEnd(u)) {
+                    int v = graph.target(nextEdge[u]++);
+                    if (discoveryTime[v] == 0) {
+                        discoveryTime[v] = lowLink[v] = ++time;
+                        sccStack[sccTop++] = v;
+                        onStack[v] = true;
+                        callStack[callTop++] = v;
+                        nextEdge[v] = graph.edgeBegin(v);
+                    } else if (onStack[v]) {
+                        lowLink[u] = Math.min(lowLink[u], discoveryTime[v]);
+                    }
+                    continue;
+                }
+
+                // All edges of u are done: pop the SCC if u is its root
+                if (lowLink[u] == discoveryTime[u]) {
+                    int w;
+                    do {
+                        w = sccStack[--sccTop];
+                        onStack[w] = false;
+                        component[w] = numComponents;
+                    } while (w != u);
+                    numComponents++;
+                }
+                callTop--;
+                if (callTop > 0) {
+                    int parent = callStack[callTop - 1];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[u]);
+                }
+            }
+        }
+        return component;
+    }
+
     /**
      * The main method demonstrates the usage of the {@code TarjanSCC} class.
      * It creates a sample directed graph and finds its strongly connected components.
@@ -129,5 +202,11 @@ public class TarjanSCC {
 
         System.out.println("Strongly Connected Components using Tarjan's Algorithm:");
         graph2.findSCCs();
+
+        CsrGraph csrGraph = CsrGraph.fromEdges(numVertices2,
+                new int[]{0, 1, 2, 2, 3, 4, 4, 5, 6, 6, 7},
+                new int[]{1, 2, 0, 3, 4, 3, 5, 6, 5, 7, 7},
+                null);
+        System.out.println("\nSCC of each vertex of the CSR graph: " + Arrays.toString(findSCCs(csrGraph)));
     }
 }
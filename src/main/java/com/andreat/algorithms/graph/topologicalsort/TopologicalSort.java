@@ -1,6 +1,9 @@
 package com.andreat.algorithms.graph.topologicalsort;
 
+import com.andreat.data_structures.CsrGraph;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -100,6 +103,45 @@ public class TopologicalSort {
         return false;
     }
 
+    /**
+     * Performs topological sort on a {@link CsrGraph} using Kahn's algorithm:
+     * vertices with no remaining incoming edges are emitted one at a time, which
+     * needs no recursion and only a few int arrays.
+     *
+     * @param graph the directed graph to sort.
+     * @return the vertices in topologically sorted order. Returns an empty array
+     * if the graph contains a cycle (and thus cannot be topologically sorted).
+     */
+    public static int[] topologicalSort(CsrGraph graph){
+        int numVertices = graph.numVertices();
+        int[] inDegree = new int[numVertices];
+        for(int e = 0; e < graph.numEdges(); e++){
+            inDegree[graph.target(e)]++;
+        }
+
+        // The output array doubles as the queue of vertices ready to be emitted
+        int[] order = new int[numVertices];
+        int head = 0;
+        int tail = 0;
+        for(int v = 0; v < numVertices; v++){
+            if(inDegree[v] == 0){
+                order[tail++] = v;
+            }
+        }
+
+        while(head < tail){
+            int v = order[head++];
+            for(int e = graph.edgeBegin(v); e < graph.edgeEnd(v); e++){
+                int neighbor = graph.target(e);
+                if(--inDegree[neighbor] == 0){
+                    order[tail++] = neighbor;
+                }
+            }
+        }
+
+        return tail == numVertices ? order : new int[0]; // Some vertices are on a cycle
+    }
+
     /**
      * The main method demonstrates the usage of the {@code TopologicalSort} class.
      * It creates a sample DAG and performs topological sort on it.
@@ -125,6 +167,12 @@ public class TopologicalSort {
             System.out.println();
         }
 
+        CsrGraph csrGraph = CsrGraph.fromEdges(numVertices,
+                new int[]{5, 5, 4, 4, 2, 3},
+                new int[]{2, 0, 0, 1, 3, 1},
+                null);
+        System.out.println("Topological Sort of the CSR graph: " + Arrays.toString(topologicalSort(csrGraph)));
+
         System.out.println("\nExample with a cycle:");
         TopologicalSort graphWithCycle = new TopologicalSort(3);
         graphWithCycle.addEdge(0, 1);
@@ -0,0 +1,351 @@
+package com.andreat.data_structures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+public class BPlusTree<V> {
+
+    abstract static class Node {
+        long[] keys;
+        int numKeys;
+    }
+
+    static class LeafNode extends Node {
+        Object[] values;
+        LeafNode next;
+
+        LeafNode(int order) {
+            // One spare slot lets a full leaf accept the key that makes it split
+            keys = new long[order + 1];
+            values = new Object[order + 1];
+            numKeys = 0;
+            next = null;
+        }
+    }
+
+    static class InnerNode extends Node {
+        Node[] children;
+
+        InnerNode(int order) {
+            keys = new long[order];
+            children = new Node[order + 1];
+            numKeys = 0;
+        }
+    }
+
+    public class Cursor {
+        private LeafNode leaf;
+        private int index;
+        private final long hi;
+        private long key;
+        private V value;
+
+        Cursor(LeafNode leaf, int index, long hi) {
+            this.leaf = leaf;
+            this.index = index;
+            this.hi = hi;
+        }
+
+        @SuppressWarnings("unchecked")
+        public boolean next() {
+            while(leaf != null && index >= leaf.numKeys) {
+                leaf = leaf.next;
+                index = 0;
+            }
+            if(leaf == null || leaf.keys[index] > hi) {
+                leaf = null;
+                return false;
+            }
+            key = leaf.keys[index];
+            value = (V) leaf.values[index];
+            index++;
+            return true;
+        }
+
+        public long key() {
+            return key;
+        }
+
+        public V value() {
+            return value;
+        }
+    }
+
+    private static final int DEFAULT_ORDER = 64;
+
+    private final int order;
+    private Node root;
+    private LeafNode firstLeaf;
+    private int size;
+
+    public BPlusTree() {
+        this(DEFAULT_ORDER);
+    }
+
+    public BPlusTree(int order) {
+        if(order < 3) {
+            throw new IllegalArgumentException("Order must be at least 3.");
+        }
+        this.order = order;
+        firstLeaf = new LeafNode(order);
+        root = firstLeaf;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Index of the first key strictly greater than key, i.e. the child to descend into
+    private static int upperBound(long[] keys, int numKeys, long key) {
+        int low = 0;
+        int high = numKeys;
+        while(low < high) {
+            int mid = (low + high) >>> 1;
+            if(keys[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int lowerBound(long[] keys, int numKeys, long key) {
+        int low = 0;
+        int high = numKeys;
+        while(low < high) {
+            int mid = (low + high) >>> 1;
+            if(keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private LeafNode findLeaf(long key) {
+        Node node = root;
+        while(node instanceof InnerNode) {
+            InnerNode inner = (InnerNode) node;
+            node = inner.children[upperBound(inner.keys, inner.numKeys, key)];
+        }
+        return (LeafNode) node;
+    }
+
+    public boolean contains(long key) {
+        LeafNode leaf = findLeaf(key);
+        int i = lowerBound(leaf.keys, leaf.numKeys, key);
+        return i < leaf.numKeys && leaf.keys[i] == key;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V search(long key) {
+        LeafNode leaf = findLeaf(key);
+        int i = lowerBound(leaf.keys, leaf.numKeys, key);
+        return i < leaf.numKeys && leaf.keys[i] == key ? (V) leaf.values[i] : null;
+    }
+
+    public void insert(long key, V value) {
+        InnerNode[] path = new InnerNode[height()];
+        int[] childIndexes = new int[path.length];
+        int depth = 0;
+
+        Node node = root;
+        while(node instanceof InnerNode) {
+            InnerNode inner = (InnerNode) node;
+            int child = upperBound(inner.keys, inner.numKeys, key);
+            path[depth] = inner;
+            childIndexes[depth] = child;
+            depth++;
+            node = inner.children[child];
+        }
+
+        LeafNode leaf = (LeafNode) node;
+        int i = lowerBound(leaf.keys, leaf.numKeys, key);
+        if(i < leaf.numKeys && leaf.keys[i] == key) {
+            leaf.values[i] = value;
+            return;
+        }
+
+        System.arraycopy(leaf.keys, i, leaf.keys, i + 1, leaf.numKeys - i);
+        System.arraycopy(leaf.values, i, leaf.values, i + 1, leaf.numKeys - i);
+        leaf.keys[i] = key;
+        leaf.values[i] = value;
+        leaf.numKeys++;
+        size++;
+
+        if(leaf.numKeys <= order) {
+            return;
+        }
+
+        // Split the leaf and push separators up the recorded path while nodes overflow
+        LeafNode right = new LeafNode(order);
+        int half = leaf.numKeys / 2;
+        right.numKeys = leaf.numKeys - half;
+        System.arraycopy(leaf.keys, half, right.keys, 0, right.numKeys);
+        System.arraycopy(leaf.values, half, right.values, 0, right.numKeys);
+        Arrays.fill(leaf.values, half, leaf.numKeys, null);
+        leaf.numKeys = half;
+        right.next = leaf.next;
+        leaf.next = right;
+
+        long separator = right.keys[0];
+        Node newChild = right;
+
+        while(depth > 0) {
+            depth--;
+            InnerNode parent = path[depth];
+            int child = childIndexes[depth];
+
+            System.arraycopy(parent.keys, child, parent.keys, child + 1, parent.numKeys - child);
+            System.arraycopy(parent.children, child + 1, parent.children, child + 2, parent.numKeys - child);
+            parent.keys[child] = separator;
+            parent.children[child + 1] = newChild;
+            parent.numKeys++;
+
+            if(parent.numKeys < order) {
+                return;
+            }
+
+            InnerNode sibling = new InnerNode(order);
+            int mid = parent.numKeys / 2;
+            separator = parent.keys[mid];
+            sibling.numKeys = parent.numKeys - mid - 1;
+            System.arraycopy(parent.keys, mid + 1, sibling.keys, 0, sibling.numKeys);
+            System.arraycopy(parent.children, mid + 1, sibling.children, 0, sibling.numKeys + 1);
+            Arrays.fill(parent.children, mid + 1, parent.numKeys + 1, null);
+            parent.numKeys = mid;
+            newChild = sibling;
+        }
+
+        InnerNode newRoot = new InnerNode(order);
+        newRoot.keys[0] = separator;
+        newRoot.children[0] = root;
+        newRoot.children[1] = newChild;
+        newRoot.numKeys = 1;
+        root = newRoot;
+    }
+
+    // Leaves are not merged on underflow: routing keys stay valid, and an
+    // emptied leaf is simply skipped by range cursors
+    @SuppressWarnings("unchecked")
+    public V delete(long key) {
+        LeafNode leaf = findLeaf(key);
+        int i = lowerBound(leaf.keys, leaf.numKeys, key);
+        if(i >= leaf.numKeys || leaf.keys[i] != key) {
+            return null;
+        }
+
+        V removed = (V) leaf.values[i];
+        System.arraycopy(leaf.keys, i + 1, leaf.keys, i, leaf.numKeys - i - 1);
+        System.arraycopy(leaf.values, i + 1, leaf.values, i, leaf.numKeys - i - 1);
+        leaf.numKeys--;
+        leaf.values[leaf.numKeys] = null;
+        size--;
+        return removed;
+    }
+
+    public Cursor range(long lo, long hi) {
+        LeafNode leaf = findLeaf(lo);
+        return new Cursor(leaf, lowerBound(leaf.keys, leaf.numKeys, lo), hi);
+    }
+
+    public long firstKey() {
+        for(LeafNode leaf = firstLeaf; leaf != null; leaf = leaf.next) {
+            if(leaf.numKeys > 0) {
+                return leaf.keys[0];
+            }
+        }
+        throw new NoSuchElementException("Tree is empty");
+    }
+
+    public int height() {
+        int height = 0;
+        for(Node node = root; node instanceof InnerNode; node = ((InnerNode) node).children[0]) {
+            height++;
+        }
+        return height;
+    }
+
+    public static <V> BPlusTree<V> bulkLoad(long[] sortedKeys, V[] values, int order) {
+        if(values != null && values.length != sortedKeys.length) {
+            throw new IllegalArgumentException("Keys and values must have the same length.");
+        }
+        for(int i = 1; i < sortedKeys.length; i++) {
+            if(sortedKeys[i - 1] >= sortedKeys[i]) {
+                throw new IllegalArgumentException("Keys must be sorted and distinct.");
+            }
+        }
+
+        BPlusTree<V> tree = new BPlusTree<>(order);
+        int n = sortedKeys.length;
+        if(n == 0) {
+            return tree;
+        }
+
+        // Fill leaves evenly, left to right, then build each inner level from the one below
+        int leafCount = (n + order - 1) / order;
+        Node[] level = new Node[leafCount];
+        long[] minKeys = new long[leafCount];
+        LeafNode previous = null;
+        int offset = 0;
+        for(int l = 0; l < leafCount; l++) {
+            int count = n / leafCount + (l < n % leafCount ? 1 : 0);
+            LeafNode leaf = new LeafNode(order);
+            System.arraycopy(sortedKeys, offset, leaf.keys, 0, count);
+            if(values != null) {
+                System.arraycopy(values, offset, leaf.values, 0, count);
+            }
+            leaf.numKeys = count;
+            if(previous != null) {
+                previous.next = leaf;
+            }
+            previous = leaf;
+            level[l] = leaf;
+            minKeys[l] = leaf.keys[0];
+            offset += count;
+        }
+
+        int fanOut = order;
+        while(level.length > 1) {
+            int parentCount = (level.length + fanOut - 1) / fanOut;
+            Node[] parents = new Node[parentCount];
+            long[] parentMinKeys = new long[parentCount];
+            int child = 0;
+            for(int p = 0; p < parentCount; p++) {
+                int count = level.length / parentCount + (p < level.length % parentCount ? 1 : 0);
+                InnerNode inner = new InnerNode(order);
+                for(int c = 0; c < count; c++) {
+                    inner.children[c] = level[child + c];
+                    if(c > 0) {
+                        inner.keys[c - 1] = minKeys[child + c];
+                    }
+                }
+                inner.numKeys = count - 1;
+                parents[p] = inner;
+                parentMinKeys[p] = minKeys[child];
+                child += count;
+            }
+            level = parents;
+            minKeys = parentMinKeys;
+        }
+
+        tree.firstLeaf = (LeafNode) firstOf(level[0]);
+        tree.root = level[0];
+        tree.size = n;
+        return tree;
+    }
+
+    private static Node firstOf(Node node) {
+        while(node instanceof InnerNode) {
+            node = ((InnerNode) node).children[0];
+        }
+        return node;
+    }
+}
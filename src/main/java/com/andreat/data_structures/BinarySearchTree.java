@@ -1,20 +1,46 @@
 package com.andreat.data_structures;
 
-public class BinarySearchTree <T extends Comparable<T>> {
+import java.util.Iterator;
+
+public class BinarySearchTree <T extends Comparable<T>> implements Iterable<T> {
 
     class TreeNode<T extends Comparable<T>>{
         T data;
         TreeNode<T> left;
         TreeNode<T> right;
+        int size;
 
         public TreeNode(T data){
             this.data = data;
             this.left = null;
             this.right = null;
+            this.size = 1;
         }
     }
 
     private TreeNode<T> root;
+    // Order-statistic walks over the size fields; empty subtrees are null here
+    private final OrderStatistics<T, TreeNode<T>> statistics = new OrderStatistics<T, TreeNode<T>>(null) {
+        @Override
+        TreeNode<T> left(TreeNode<T> node) {
+            return node.left;
+        }
+
+        @Override
+        TreeNode<T> right(TreeNode<T> node) {
+            return node.right;
+        }
+
+        @Override
+        T data(TreeNode<T> node) {
+            return node.data;
+        }
+
+        @Override
+        int size(TreeNode<T> node) {
+            return BinarySearchTree.this.size(node);
+        }
+    };
 
     public BinarySearchTree() {
         this.root = null;
@@ -36,6 +62,7 @@ public class BinarySearchTree <T extends Comparable<T>> {
             root.right = insertRec(root.right, data);
         }
 
+        root.size = 1 + size(root.left) + size(root.right);
         return root;
     }
 
@@ -84,6 +111,7 @@ public class BinarySearchTree <T extends Comparable<T>> {
             root.right = deleteRec(root.right, root.data);
         }
 
+        root.size = 1 + size(root.left) + size(root.right);
         return root;
     }
 
@@ -96,16 +124,47 @@ public class BinarySearchTree <T extends Comparable<T>> {
         return minValue;
     }
 
-    public void inorderTraversal(){
-        inorderRec(root);
-        System.out.println();
+    private int size(TreeNode<T> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
     }
 
-    private void inorderRec(TreeNode<T> root) {
-        if(root != null) {
-            inorderRec(root.left);
-            System.out.print(root.data + " ");
-            inorderRec(root.right);
+    public int rank(T data) {
+        return statistics.rank(root, data);
+    }
+
+    public T select(int k) {
+        return statistics.select(root, k);
+    }
+
+    public T floor(T data) {
+        return statistics.floor(root, data);
+    }
+
+    public T ceiling(T data) {
+        return statistics.ceiling(root, data);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return statistics.range(root, null, null);
+    }
+
+    public Iterable<T> range(T lo, T hi) {
+        return () -> statistics.range(root, lo, hi);
+    }
+
+    public void inorderTraversal(){
+        for(T data : this) {
+            System.out.print(data + " ");
         }
+        System.out.println();
     }
 }
\ No newline at end of file
@@ -0,0 +1,309 @@
+package com.andreat.data_structures;
+
+import java.util.Arrays;
+
+// Trie over the full char alphabet with adaptive nodes, in the spirit of ART:
+// nodes with few children keep sorted label and child arrays sized exactly,
+// and a node with many children in a narrow range of chars switches to a table
+// indexed by (c - base). Nodes are replaced when they change type, so every
+// update returns the node the parent must point to.
+public class CompactTrie {
+
+    abstract static class Node {
+        boolean isEndOfWord;
+
+        abstract Node child(char c);
+
+        // Adds or replaces the child for c; returns the node that replaces this one
+        abstract Node put(char c, Node child);
+
+        // Removes the child for c, if any; returns the node that replaces this one
+        abstract Node remove(char c);
+
+        abstract int childCount();
+    }
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    // Sorted nodes are scanned linearly up to this size, and binary searched above it
+    private static final int LINEAR_SCAN_LIMIT = 8;
+    // A sorted node this full becomes dense if its labels span at most DENSE_SPAN_FACTOR slots per child
+    private static final int DENSE_MIN_CHILDREN = 16;
+    private static final int DENSE_SPAN_FACTOR = 4;
+
+    static final class SortedNode extends Node {
+        char[] labels;
+        Node[] children;
+
+        SortedNode() {
+            labels = NO_LABELS;
+            children = NO_CHILDREN;
+        }
+
+        SortedNode(char[] labels, Node[] children, boolean isEndOfWord) {
+            this.labels = labels;
+            this.children = children;
+            this.isEndOfWord = isEndOfWord;
+        }
+
+        private int indexOf(char c) {
+            if(labels.length <= LINEAR_SCAN_LIMIT) {
+                for(int i = 0; i < labels.length; i++) {
+                    if(labels[i] >= c) {
+                        return labels[i] == c ? i : -(i + 1);
+                    }
+                }
+                return -(labels.length + 1);
+            }
+            return Arrays.binarySearch(labels, c);
+        }
+
+        @Override
+        Node child(char c) {
+            int i = indexOf(c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        @Override
+        Node put(char c, Node child) {
+            int i = indexOf(c);
+            if(i >= 0) {
+                children[i] = child;
+                return this;
+            }
+            int count = labels.length;
+            if(count + 1 >= DENSE_MIN_CHILDREN) {
+                int span = Math.max(labels[count - 1], c) - Math.min(labels[0], c) + 1;
+                if(span <= DENSE_SPAN_FACTOR * (count + 1)) {
+                    DenseNode dense = new DenseNode(this);
+                    return dense.put(c, child);
+                }
+            }
+
+            // Grow by exactly one: most trie nodes have one or two children
+            int insertion = -(i + 1);
+            char[] newLabels = new char[count + 1];
+            Node[] newChildren = new Node[count + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertion);
+            System.arraycopy(children, 0, newChildren, 0, insertion);
+            newLabels[insertion] = c;
+            newChildren[insertion] = child;
+            System.arraycopy(labels, insertion, newLabels, insertion + 1, count - insertion);
+            System.arraycopy(children, insertion, newChildren, insertion + 1, count - insertion);
+            labels = newLabels;
+            children = newChildren;
+            return this;
+        }
+
+        @Override
+        Node remove(char c) {
+            int i = indexOf(c);
+            if(i < 0) {
+                return this;
+            }
+            int count = labels.length;
+            if(count == 1) {
+                labels = NO_LABELS;
+                children = NO_CHILDREN;
+                return this;
+            }
+            char[] newLabels = new char[count - 1];
+            Node[] newChildren = new Node[count - 1];
+            System.arraycopy(labels, 0, newLabels, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(labels, i + 1, newLabels, i, count - i - 1);
+            System.arraycopy(children, i + 1, newChildren, i, count - i - 1);
+            labels = newLabels;
+            children = newChildren;
+            return this;
+        }
+
+        @Override
+        int childCount() {
+            return labels.length;
+        }
+    }
+
+    static final class DenseNode extends Node {
+        char base;
+        Node[] children;
+        int count;
+
+        DenseNode(SortedNode node) {
+            int n = node.labels.length;
+            base = node.labels[0];
+            children = new Node[node.labels[n - 1] - base + 1];
+            for(int i = 0; i < n; i++) {
+                children[node.labels[i] - base] = node.children[i];
+            }
+            count = n;
+            isEndOfWord = node.isEndOfWord;
+        }
+
+        @Override
+        Node child(char c) {
+            int i = c - base;
+            return i >= 0 && i < children.length ? children[i] : null;
+        }
+
+        @Override
+        Node put(char c, Node child) {
+            int i = c - base;
+            if(i >= 0 && i < children.length) {
+                if(children[i] == null) {
+                    count++;
+                }
+                children[i] = child;
+                return this;
+            }
+
+            int low = Math.min(base, c);
+            int high = Math.max(base + children.length - 1, c);
+            if(high - low + 1 > DENSE_SPAN_FACTOR * (count + 1)) {
+                return toSorted().put(c, child);
+            }
+            Node[] newChildren = new Node[high - low + 1];
+            System.arraycopy(children, 0, newChildren, base - low, children.length);
+            newChildren[c - low] = child;
+            children = newChildren;
+            base = (char) low;
+            count++;
+            return this;
+        }
+
+        @Override
+        Node remove(char c) {
+            int i = c - base;
+            if(i < 0 || i >= children.length || children[i] == null) {
+                return this;
+            }
+            children[i] = null;
+            count--;
+            return count < DENSE_MIN_CHILDREN / 2 ? toSorted() : this;
+        }
+
+        @Override
+        int childCount() {
+            return count;
+        }
+
+        private SortedNode toSorted() {
+            char[] labels = new char[count];
+            Node[] sortedChildren = new Node[count];
+            int j = 0;
+            for(int i = 0; i < children.length; i++) {
+                if(children[i] != null) {
+                    labels[j] = (char) (base + i);
+                    sortedChildren[j] = children[i];
+                    j++;
+                }
+            }
+            return new SortedNode(labels, sortedChildren, isEndOfWord);
+        }
+    }
+
+    private Node root;
+    private int size;
+    private int nodeCount;
+
+    public CompactTrie() {
+        root = new SortedNode();
+        size = 0;
+        nodeCount = 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    public void insert(String word) {
+        Node parent = null;
+        char parentLabel = 0;
+        Node current = root;
+        for(int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            Node next = current.child(c);
+            if(next == null) {
+                next = new SortedNode();
+                nodeCount++;
+                Node replaced = current.put(c, next);
+                if(replaced != current) {
+                    relink(parent, parentLabel, replaced);
+                }
+                current = replaced;
+            }
+            parent = current;
+            parentLabel = c;
+            current = next;
+        }
+        if(!current.isEndOfWord) {
+            current.isEndOfWord = true;
+            size++;
+        }
+    }
+
+    private void relink(Node parent, char label, Node replacement) {
+        if(parent == null) {
+            root = replacement;
+        } else {
+            parent.put(label, replacement);
+        }
+    }
+
+    private Node findNode(String key) {
+        Node current = root;
+        for(int i = 0; i < key.length() && current != null; i++) {
+            current = current.child(key.charAt(i));
+        }
+        return current;
+    }
+
+    public boolean search(String word) {
+        Node node = findNode(word);
+        return node != null && node.isEndOfWord;
+    }
+
+    public boolean startsWith(String prefix) {
+        return findNode(prefix) != null;
+    }
+
+    public void delete(String word) {
+        Node[] path = new Node[word.length() + 1];
+        path[0] = root;
+        for(int i = 0; i < word.length(); i++) {
+            path[i + 1] = path[i].child(word.charAt(i));
+            if(path[i + 1] == null) {
+                return;
+            }
+        }
+        Node last = path[word.length()];
+        if(!last.isEndOfWord) {
+            return;
+        }
+        last.isEndOfWord = false;
+        size--;
+
+        // Prune the nodes left without children or word, bottom-up
+        for(int i = word.length(); i > 0; i--) {
+            Node node = path[i];
+            if(node.childCount() > 0 || node.isEndOfWord) {
+                break;
+            }
+            Node parent = path[i - 1];
+            Node replaced = parent.remove(word.charAt(i - 1));
+            nodeCount--;
+            if(replaced != parent) {
+                relink(i >= 2 ? path[i - 2] : null, i >= 2 ? word.charAt(i - 2) : 0, replaced);
+                path[i - 1] = replaced;
+            }
+        }
+    }
+}
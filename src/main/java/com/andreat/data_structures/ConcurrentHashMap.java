@@ -0,0 +1,471 @@
+package com.andreat.data_structures;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+public class ConcurrentHashMap<K, V> {
+
+    static class Node<K, V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        volatile Node<K, V> next;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    // Placed in a bin of the old table once the bin has been moved to the new table
+    static class ForwardingNode<K, V> extends Node<K, V> {
+        final AtomicReferenceArray<Node<K, V>> nextTable;
+
+        ForwardingNode(AtomicReferenceArray<Node<K, V>> nextTable) {
+            super(MOVED, null, null, null);
+            this.nextTable = nextTable;
+        }
+    }
+
+    // Locks an empty bin while computeIfAbsent runs its mapping function
+    static class ReservationNode<K, V> extends Node<K, V> {
+        // Set when a resize started by the mapping function had to skip this bin;
+        // only read and written by the thread holding the reservation
+        Resize<K, V> skippedBy;
+
+        ReservationNode() {
+            super(RESERVED, null, null, null);
+        }
+    }
+
+    static class Resize<K, V> {
+        final AtomicReferenceArray<Node<K, V>> oldTable;
+        final AtomicReferenceArray<Node<K, V>> newTable;
+        final ForwardingNode<K, V> forwardingNode;
+        final AtomicInteger transferIndex;
+        final AtomicInteger transferredBins;
+
+        Resize(AtomicReferenceArray<Node<K, V>> oldTable) {
+            this.oldTable = oldTable;
+            this.newTable = new AtomicReferenceArray<>(oldTable.length() * 2);
+            this.forwardingNode = new ForwardingNode<>(newTable);
+            this.transferIndex = new AtomicInteger(oldTable.length());
+            this.transferredBins = new AtomicInteger(0);
+        }
+    }
+
+    private static final int MOVED = -1;
+    private static final int RESERVED = -2;
+    private static final int HASH_BITS = 0x7fffffff;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final double LOAD_FACTOR = 0.7;
+    private static final int MIN_TRANSFER_STRIDE = 16;
+    private static final int NCPU = Runtime.getRuntime().availableProcessors();
+
+    private volatile AtomicReferenceArray<Node<K, V>> table;
+    private volatile int threshold;
+    private volatile Resize<K, V> resizing;
+    private final LongAdder count;
+
+    public ConcurrentHashMap() {
+        this(16);
+    }
+
+    public ConcurrentHashMap(int initialCapacity) {
+        if(initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative.");
+        }
+        int capacity = tableSizeFor((int) Math.min(MAXIMUM_CAPACITY, Math.ceil(initialCapacity / LOAD_FACTOR)));
+        table = new AtomicReferenceArray<>(capacity);
+        threshold = (int) (capacity * LOAD_FACTOR);
+        count = new LongAdder();
+    }
+
+    private static int tableSizeFor(int c) {
+        int n = 2;
+        while(n < c && n < MAXIMUM_CAPACITY) {
+            n <<= 1;
+        }
+        return n;
+    }
+
+    private static int spread(int h) {
+        return (h ^ (h >>> 16)) & HASH_BITS;
+    }
+
+    public int size() {
+        long n = count.sum();
+        return n < 0 ? 0 : n > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) n;
+    }
+
+    public boolean isEmpty() {
+        return count.sum() <= 0;
+    }
+
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    public V get(K key) {
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = table;
+
+        while(true) {
+            Node<K, V> e = tab.get(hash & (tab.length() - 1));
+            if(e == null) {
+                return null;
+            }
+            if(e.hash == MOVED) {
+                tab = ((ForwardingNode<K, V>) e).nextTable;
+                continue;
+            }
+            for(; e != null; e = e.next) {
+                if(e.hash == hash && e.key.equals(key)) {
+                    return e.value;
+                }
+            }
+            return null;
+        }
+    }
+
+    public V put(K key, V value) {
+        return putVal(key, value, false);
+    }
+
+    public V putIfAbsent(K key, V value) {
+        return putVal(key, value, true);
+    }
+
+    private V putVal(K key, V value, boolean onlyIfAbsent) {
+        if(key == null || value == null) {
+            throw new NullPointerException();
+        }
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = table;
+
+        while(true) {
+            int i = hash & (tab.length() - 1);
+            Node<K, V> f = tab.get(i);
+
+            if(f == null) {
+                if(tab.compareAndSet(i, null, new Node<>(hash, key, value, null))) {
+                    break;
+                }
+            } else if(f.hash == MOVED) {
+                tab = helpTransfer(tab, (ForwardingNode<K, V>) f);
+            } else {
+                synchronized(f) {
+                    if(tab.get(i) != f) {
+                        continue;
+                    }
+                    checkNotReserved(f);
+                    Node<K, V> e = f;
+                    while(true) {
+                        if(e.hash == hash && e.key.equals(key)) {
+                            V previous = e.value;
+                            if(!onlyIfAbsent) {
+                                e.value = value;
+                            }
+                            return previous;
+                        }
+                        if(e.next == null) {
+                            e.next = new Node<>(hash, key, value, null);
+                            break;
+                        }
+                        e = e.next;
+                    }
+                }
+                break;
+            }
+        }
+
+        addCount(tab);
+        return null;
+    }
+
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        if(key == null || mappingFunction == null) {
+            throw new NullPointerException();
+        }
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = table;
+
+        while(true) {
+            int i = hash & (tab.length() - 1);
+            Node<K, V> f = tab.get(i);
+
+            if(f == null) {
+                ReservationNode<K, V> reservation = new ReservationNode<>();
+                synchronized(reservation) {
+                    if(!tab.compareAndSet(i, null, reservation)) {
+                        continue;
+                    }
+                    V value = null;
+                    try {
+                        value = mappingFunction.apply(key);
+                    } finally {
+                        tab.set(i, value != null ? new Node<>(hash, key, value, null) : null);
+                        if(reservation.skippedBy != null) {
+                            // The resize could not move the bin while it was reserved
+                            transferBin(reservation.skippedBy, i);
+                            completeBins(reservation.skippedBy, 1);
+                        }
+                    }
+                    if(value == null) {
+                        return null;
+                    }
+                    addCount(tab);
+                    return value;
+                }
+            } else if(f.hash == MOVED) {
+                tab = helpTransfer(tab, (ForwardingNode<K, V>) f);
+            } else {
+                V value;
+                synchronized(f) {
+                    if(tab.get(i) != f) {
+                        continue;
+                    }
+                    checkNotReserved(f);
+                    Node<K, V> e = f;
+                    while(true) {
+                        if(e.hash == hash && e.key.equals(key)) {
+                            return e.value;
+                        }
+                        if(e.next == null) {
+                            break;
+                        }
+                        e = e.next;
+                    }
+                    value = mappingFunction.apply(key);
+                    checkBinUnchanged(tab, i, f);
+                    if(value == null) {
+                        return null;
+                    }
+                    // The function appended to the bin it was called under
+                    if(e.next != null) {
+                        throw new IllegalStateException("Recursive update");
+                    }
+                    e.next = new Node<>(hash, key, value, null);
+                }
+                addCount(tab);
+                return value;
+            }
+        }
+    }
+
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if(key == null || value == null || remappingFunction == null) {
+            throw new NullPointerException();
+        }
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = table;
+
+        while(true) {
+            int i = hash & (tab.length() - 1);
+            Node<K, V> f = tab.get(i);
+
+            if(f == null) {
+                if(tab.compareAndSet(i, null, new Node<>(hash, key, value, null))) {
+                    addCount(tab);
+                    return value;
+                }
+            } else if(f.hash == MOVED) {
+                tab = helpTransfer(tab, (ForwardingNode<K, V>) f);
+            } else {
+                synchronized(f) {
+                    if(tab.get(i) != f) {
+                        continue;
+                    }
+                    checkNotReserved(f);
+                    Node<K, V> pred = null;
+                    Node<K, V> e = f;
+                    while(e != null) {
+                        if(e.hash == hash && e.key.equals(key)) {
+                            V merged = remappingFunction.apply(e.value, value);
+                            checkBinUnchanged(tab, i, f);
+                            if(merged != null) {
+                                e.value = merged;
+                            } else {
+                                unlink(tab, i, pred, e);
+                            }
+                            return merged;
+                        }
+                        pred = e;
+                        e = e.next;
+                    }
+                    pred.next = new Node<>(hash, key, value, null);
+                }
+                addCount(tab);
+                return value;
+            }
+        }
+    }
+
+    public V remove(K key) {
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = table;
+
+        while(true) {
+            int i = hash & (tab.length() - 1);
+            Node<K, V> f = tab.get(i);
+
+            if(f == null) {
+                return null;
+            } else if(f.hash == MOVED) {
+                tab = helpTransfer(tab, (ForwardingNode<K, V>) f);
+            } else {
+                synchronized(f) {
+                    if(tab.get(i) != f) {
+                        continue;
+                    }
+                    checkNotReserved(f);
+                    Node<K, V> pred = null;
+                    for(Node<K, V> e = f; e != null; pred = e, e = e.next) {
+                        if(e.hash == hash && e.key.equals(key)) {
+                            unlink(tab, i, pred, e);
+                            return e.value;
+                        }
+                    }
+                    return null;
+                }
+            }
+        }
+    }
+
+    // Only the thread running the mapping function of a reservation can get past its
+    // lock while the reservation is still in the bin, i.e. the function updated the map
+    private static void checkNotReserved(Node<?, ?> f) {
+        if(f.hash == RESERVED) {
+            throw new IllegalStateException("Recursive update");
+        }
+    }
+
+    // A resize started by the function itself re-enters the bin lock and moves the
+    // bin; an update made to the old chain afterwards would be lost. Comparing tab
+    // with table would not work: tab may be a new table not yet published
+    private void checkBinUnchanged(AtomicReferenceArray<Node<K, V>> tab, int i, Node<K, V> f) {
+        if(tab.get(i) != f) {
+            throw new IllegalStateException("Recursive update");
+        }
+    }
+
+    private void unlink(AtomicReferenceArray<Node<K, V>> tab, int i, Node<K, V> pred, Node<K, V> e) {
+        if(pred == null) {
+            tab.set(i, e.next);
+        } else {
+            pred.next = e.next;
+        }
+        count.decrement();
+    }
+
+    private void addCount(AtomicReferenceArray<Node<K, V>> tab) {
+        count.increment();
+        if(count.sum() >= threshold && tab.length() < MAXIMUM_CAPACITY) {
+            startResize(tab);
+        }
+        Resize<K, V> r = resizing;
+        if(r != null) {
+            transfer(r);
+        }
+    }
+
+    private synchronized void startResize(AtomicReferenceArray<Node<K, V>> tab) {
+        if(resizing == null && table == tab && count.sum() >= threshold) {
+            resizing = new Resize<>(tab);
+        }
+    }
+
+    private AtomicReferenceArray<Node<K, V>> helpTransfer(AtomicReferenceArray<Node<K, V>> tab, ForwardingNode<K, V> f) {
+        Resize<K, V> r = resizing;
+        if(r != null && r.oldTable == tab) {
+            transfer(r);
+        }
+        return f.nextTable;
+    }
+
+    // Threads claim strides of bins from the top of the old table and move them
+    // to the new table; the thread completing the last stride publishes the new table
+    private void transfer(Resize<K, V> r) {
+        int n = r.oldTable.length();
+        int stride = Math.max(MIN_TRANSFER_STRIDE, n / (8 * NCPU));
+
+        while(true) {
+            int upper = r.transferIndex.get();
+            if(upper <= 0) {
+                return;
+            }
+            int lower = Math.max(0, upper - stride);
+            if(!r.transferIndex.compareAndSet(upper, lower)) {
+                continue;
+            }
+
+            int moved = 0;
+            for(int i = upper - 1; i >= lower; i--) {
+                if(transferBin(r, i)) {
+                    moved++;
+                }
+            }
+
+            if(completeBins(r, moved)) {
+                return;
+            }
+        }
+    }
+
+    // Counts bins as moved; the thread moving the last one publishes the new table
+    private boolean completeBins(Resize<K, V> r, int bins) {
+        if(r.transferredBins.addAndGet(bins) != r.oldTable.length()) {
+            return false;
+        }
+        table = r.newTable;
+        threshold = (int) (r.newTable.length() * LOAD_FACTOR);
+        resizing = null;
+        return true;
+    }
+
+    // Returns false if the bin is reserved by a mapping function running on this
+    // thread; the reservation's owner moves it once the function returns
+    private boolean transferBin(Resize<K, V> r, int i) {
+        AtomicReferenceArray<Node<K, V>> oldTable = r.oldTable;
+        int n = oldTable.length();
+
+        while(true) {
+            Node<K, V> f = oldTable.get(i);
+            if(f == null) {
+                if(oldTable.compareAndSet(i, null, r.forwardingNode)) {
+                    return true;
+                }
+                continue;
+            }
+            synchronized(f) {
+                if(oldTable.get(i) != f) {
+                    continue;
+                }
+                if(f.hash == RESERVED) {
+                    ((ReservationNode<K, V>) f).skippedBy = r;
+                    return false;
+                }
+                // Nodes are copied rather than relinked so that concurrent readers
+                // of the old bin always see a complete chain
+                Node<K, V> low = null;
+                Node<K, V> high = null;
+                for(Node<K, V> e = f; e != null; e = e.next) {
+                    if((e.hash & n) == 0) {
+                        low = new Node<>(e.hash, e.key, e.value, low);
+                    } else {
+                        high = new Node<>(e.hash, e.key, e.value, high);
+                    }
+                }
+                r.newTable.set(i, low);
+                r.newTable.set(i + n, high);
+                oldTable.set(i, r.forwardingNode);
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.andreat.data_structures;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Optimistic lazy skip list: readers never lock, writers lock only the
+// predecessors they change and validate them before linking or unlinking
+public class ConcurrentSkipListMap<K extends Comparable<K>, V> {
+
+    static class Node<K, V> {
+        final K key;
+        final int sentinel;
+        final int topLevel;
+        final AtomicReferenceArray<Node<K, V>> next;
+        final ReentrantLock lock;
+        volatile V value;
+        volatile boolean marked;
+        volatile boolean fullyLinked;
+
+        Node(K key, V value, int topLevel, int sentinel) {
+            this.key = key;
+            this.value = value;
+            this.topLevel = topLevel;
+            this.sentinel = sentinel;
+            this.next = new AtomicReferenceArray<>(topLevel + 1);
+            this.lock = new ReentrantLock();
+            this.marked = false;
+            this.fullyLinked = false;
+        }
+    }
+
+    private static final int MAX_LEVEL = 31;
+    private static final int HEAD = -1;
+    private static final int TAIL = 1;
+
+    private final Node<K, V> head;
+    private final Node<K, V> tail;
+    // Highest level any node has been linked at; searches start here instead of
+    // at MAX_LEVEL. Raised before a node is linked and never lowered
+    private final AtomicInteger highestLevel;
+    private final LongAdder count;
+
+    public ConcurrentSkipListMap() {
+        head = new Node<>(null, null, MAX_LEVEL, HEAD);
+        tail = new Node<>(null, null, MAX_LEVEL, TAIL);
+        for(int level = 0; level <= MAX_LEVEL; level++) {
+            head.next.set(level, tail);
+        }
+        head.fullyLinked = true;
+        tail.fullyLinked = true;
+        highestLevel = new AtomicInteger(0);
+        count = new LongAdder();
+    }
+
+    private static int randomLevel() {
+        int level = 0;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while(level < MAX_LEVEL && random.nextBoolean()) {
+            level++;
+        }
+        return level;
+    }
+
+    private void raiseHighestLevel(int level) {
+        int current = highestLevel.get();
+        while(current < level && !highestLevel.compareAndSet(current, level)) {
+            current = highestLevel.get();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V>[] newNodeArray(int length) {
+        return (Node<K, V>[]) new Node<?, ?>[length];
+    }
+
+    private static <K extends Comparable<K>> int compare(Node<K, ?> node, K key) {
+        if(node.sentinel != 0) {
+            return node.sentinel;
+        }
+        return node.key.compareTo(key);
+    }
+
+    // Searches from level preds.length - 1 down
+    private int find(K key, Node<K, V>[] preds, Node<K, V>[] succs) {
+        int levelFound = -1;
+        Node<K, V> pred = head;
+
+        for(int level = preds.length - 1; level >= 0; level--) {
+            Node<K, V> curr = pred.next.get(level);
+            while(compare(curr, key) < 0) {
+                pred = curr;
+                curr = pred.next.get(level);
+            }
+            if(levelFound == -1 && compare(curr, key) == 0) {
+                levelFound = level;
+            }
+            preds[level] = pred;
+            succs[level] = curr;
+        }
+
+        return levelFound;
+    }
+
+    public int size() {
+        long n = count.sum();
+        return n > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) n;
+    }
+
+    public boolean isEmpty() {
+        return count.sum() <= 0;
+    }
+
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    public V get(K key) {
+        Node<K, V> pred = head;
+
+        for(int level = highestLevel.get(); level >= 0; level--) {
+            Node<K, V> curr = pred.next.get(level);
+            int cmp;
+            while((cmp = compare(curr, key)) < 0) {
+                pred = curr;
+                curr = pred.next.get(level);
+            }
+            if(cmp == 0) {
+                return curr.fullyLinked && !curr.marked ? curr.value : null;
+            }
+        }
+
+        return null;
+    }
+
+    public V put(K key, V value) {
+        if(key == null || value == null) {
+            throw new NullPointerException();
+        }
+        int topLevel = randomLevel();
+        raiseHighestLevel(topLevel);
+        int searchLevel = highestLevel.get();
+        Node<K, V>[] preds = newNodeArray(searchLevel + 1);
+        Node<K, V>[] succs = newNodeArray(searchLevel + 1);
+
+        while(true) {
+            int levelFound = find(key, preds, succs);
+            if(levelFound != -1) {
+                Node<K, V> found = succs[levelFound];
+                if(!found.marked) {
+                    while(!found.fullyLinked) {
+                        Thread.yield();
+                    }
+                    // The lock orders the swap with other puts and with remove,
+                    // which marks the node while holding it
+                    found.lock.lock();
+                    try {
+                        if(!found.marked) {
+                            V previous = found.value;
+                            found.value = value;
+                            return previous;
+                        }
+                    } finally {
+                        found.lock.unlock();
+                    }
+                }
+                continue;
+            }
+
+            int highestLocked = -1;
+            try {
+                boolean valid = true;
+                for(int level = 0; valid && level <= topLevel; level++) {
+                    Node<K, V> pred = preds[level];
+                    Node<K, V> succ = succs[level];
+                    pred.lock.lock();
+                    highestLocked = level;
+                    valid = !pred.marked && !succ.marked && pred.next.get(level) == succ;
+                }
+                if(!valid) {
+                    continue;
+                }
+
+                Node<K, V> node = new Node<>(key, value, topLevel, 0);
+                for(int level = 0; level <= topLevel; level++) {
+                    node.next.set(level, succs[level]);
+                }
+                for(int level = 0; level <= topLevel; level++) {
+                    preds[level].next.set(level, node);
+                }
+                node.fullyLinked = true;
+                count.increment();
+                return null;
+            } finally {
+                for(int level = 0; level <= highestLocked; level++) {
+                    preds[level].lock.unlock();
+                }
+            }
+        }
+    }
+
+    public V remove(K key) {
+        Node<K, V>[] preds = newNodeArray(highestLevel.get() + 1);
+        Node<K, V>[] succs = newNodeArray(preds.length);
+        Node<K, V> victim = null;
+        boolean isMarked = false;
+        int topLevel = -1;
+
+        while(true) {
+            int levelFound = find(key, preds, succs);
+            if(levelFound != -1) {
+                victim = succs[levelFound];
+                if(!isMarked && victim.topLevel >= preds.length) {
+                    // Linked after highestLevel was read, above the levels searched
+                    preds = newNodeArray(highestLevel.get() + 1);
+                    succs = newNodeArray(preds.length);
+                    continue;
+                }
+            }
+            if(!isMarked && (levelFound == -1 || !victim.fullyLinked
+                    || victim.topLevel != levelFound || victim.marked)) {
+                return null;
+            }
+
+            if(!isMarked) {
+                topLevel = victim.topLevel;
+                victim.lock.lock();
+                if(victim.marked) {
+                    victim.lock.unlock();
+                    return null;
+                }
+                // Marking is the linearization point; the physical unlink follows
+                victim.marked = true;
+                isMarked = true;
+            }
+
+            int highestLocked = -1;
+            try {
+                boolean valid = true;
+                for(int level = 0; valid && level <= topLevel; level++) {
+                    Node<K, V> pred = preds[level];
+                    pred.lock.lock();
+                    highestLocked = level;
+                    valid = !pred.marked && pred.next.get(level) == victim;
+                }
+                if(!valid) {
+                    continue;
+                }
+
+                for(int level = topLevel; level >= 0; level--) {
+                    preds[level].next.set(level, victim.next.get(level));
+                }
+                victim.lock.unlock();
+                count.decrement();
+                return victim.value;
+            } finally {
+                for(int level = 0; level <= highestLocked; level++) {
+                    preds[level].lock.unlock();
+                }
+            }
+        }
+    }
+
+    // Weakly consistent: reflects some updates made during the iteration and never throws.
+    // A null bound leaves that side open
+    public Iterable<Map.Entry<K, V>> range(K lo, K hi) {
+        return () -> new RangeIterator(lo, hi);
+    }
+
+    private class RangeIterator implements Iterator<Map.Entry<K, V>> {
+        private final K hi;
+        private Node<K, V> nextNode;
+        private V nextValue;
+
+        RangeIterator(K lo, K hi) {
+            this.hi = hi;
+            Node<K, V> pred = head;
+            for(int level = lo == null ? -1 : highestLevel.get(); level >= 0; level--) {
+                Node<K, V> curr = pred.next.get(level);
+                while(compare(curr, lo) < 0) {
+                    pred = curr;
+                    curr = pred.next.get(level);
+                }
+            }
+            advance(pred.next.get(0));
+        }
+
+        private void advance(Node<K, V> node) {
+            while(node.sentinel == 0) {
+                if(hi != null && compare(node, hi) > 0) {
+                    break;
+                }
+                V value = node.value;
+                if(!node.marked && node.fullyLinked) {
+                    nextNode = node;
+                    nextValue = value;
+                    return;
+                }
+                node = node.next.get(0);
+            }
+            nextNode = null;
+            nextValue = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if(nextNode == null) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> entry = new AbstractMap.SimpleImmutableEntry<>(nextNode.key, nextValue);
+            advance(nextNode.next.get(0));
+            return entry;
+        }
+    }
+}
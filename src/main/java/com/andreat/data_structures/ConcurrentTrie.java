@@ -0,0 +1,184 @@
+package com.andreat.data_structures;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Persistent trie behind a single atomic root. Nodes are never modified: an update
+// copies the nodes on the path from the root to the changed node and publishes the
+// new root with a CAS, retrying if another writer got there first. Readers just
+// follow the root they loaded, so they never lock or block, and a snapshot is
+// simply a second trie sharing the current root.
+public class ConcurrentTrie {
+
+    static final class Node {
+        final char[] labels;
+        final Node[] children;
+        final boolean isEndOfWord;
+
+        Node(char[] labels, Node[] children, boolean isEndOfWord) {
+            this.labels = labels;
+            this.children = children;
+            this.isEndOfWord = isEndOfWord;
+        }
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node withEndOfWord(boolean isEndOfWord) {
+            return new Node(labels, children, isEndOfWord);
+        }
+
+        Node withChild(char c, Node child) {
+            int i = Arrays.binarySearch(labels, c);
+            if(i >= 0) {
+                Node[] newChildren = children.clone();
+                newChildren[i] = child;
+                return new Node(labels, newChildren, isEndOfWord);
+            }
+            int insertion = -(i + 1);
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[labels.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertion);
+            System.arraycopy(children, 0, newChildren, 0, insertion);
+            newLabels[insertion] = c;
+            newChildren[insertion] = child;
+            System.arraycopy(labels, insertion, newLabels, insertion + 1, labels.length - insertion);
+            System.arraycopy(children, insertion, newChildren, insertion + 1, labels.length - insertion);
+            return new Node(newLabels, newChildren, isEndOfWord);
+        }
+
+        Node withoutChild(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[labels.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(labels, i + 1, newLabels, i, labels.length - i - 1);
+            System.arraycopy(children, i + 1, newChildren, i, labels.length - i - 1);
+            return new Node(newLabels, newChildren, isEndOfWord);
+        }
+    }
+
+    // The root node together with the word count, so that both change atomically
+    static final class Root {
+        final Node node;
+        final int size;
+
+        Root(Node node, int size) {
+            this.node = node;
+            this.size = size;
+        }
+    }
+
+    private static final Node EMPTY = new Node(new char[0], new Node[0], false);
+
+    private final AtomicReference<Root> root;
+
+    public ConcurrentTrie() {
+        this(new Root(EMPTY, 0));
+    }
+
+    private ConcurrentTrie(Root root) {
+        this.root = new AtomicReference<>(root);
+    }
+
+    // An independent trie holding the current words; later updates to either one
+    // do not affect the other. Costs O(1): the two tries share all existing nodes
+    public ConcurrentTrie snapshot() {
+        return new ConcurrentTrie(root.get());
+    }
+
+    public int size() {
+        return root.get().size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private Node findNode(String key) {
+        Node current = root.get().node;
+        for(int i = 0; i < key.length() && current != null; i++) {
+            current = current.child(key.charAt(i));
+        }
+        return current;
+    }
+
+    public boolean search(String word) {
+        Node node = findNode(word);
+        return node != null && node.isEndOfWord;
+    }
+
+    public boolean startsWith(String prefix) {
+        return findNode(prefix) != null;
+    }
+
+    // Returns false if the word was already present
+    public boolean insert(String word) {
+        while(true) {
+            Root current = root.get();
+            Node updated = insertRec(current.node, word, 0);
+            if(updated == current.node) {
+                return false;
+            }
+            if(root.compareAndSet(current, new Root(updated, current.size + 1))) {
+                return true;
+            }
+        }
+    }
+
+    // Returns node itself if the word is already present below it, a modified copy otherwise
+    private Node insertRec(Node node, String word, int depth) {
+        if(depth == word.length()) {
+            return node.isEndOfWord ? node : node.withEndOfWord(true);
+        }
+        char c = word.charAt(depth);
+        Node child = node.child(c);
+        Node updated = insertRec(child == null ? EMPTY : child, word, depth + 1);
+        return updated == child ? node : node.withChild(c, updated);
+    }
+
+    // Returns false if the word was not present
+    public boolean delete(String word) {
+        while(true) {
+            Root current = root.get();
+            Node updated = deleteRec(current.node, word, 0);
+            if(updated == current.node) {
+                return false;
+            }
+            Root next = new Root(updated == null ? EMPTY : updated, current.size - 1);
+            if(root.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    // Returns node itself if the word is not below it, null if the node becomes empty,
+    // and a modified copy otherwise
+    private Node deleteRec(Node node, String word, int depth) {
+        if(depth == word.length()) {
+            if(!node.isEndOfWord) {
+                return node;
+            }
+            return node.labels.length == 0 ? null : node.withEndOfWord(false);
+        }
+        char c = word.charAt(depth);
+        Node child = node.child(c);
+        if(child == null) {
+            return node;
+        }
+        Node updated = deleteRec(child, word, depth + 1);
+        if(updated == child) {
+            return node;
+        }
+        if(updated != null) {
+            return node.withChild(c, updated);
+        }
+        if(node.labels.length == 1 && !node.isEndOfWord) {
+            return null;
+        }
+        return node.withoutChild(c);
+    }
+}
@@ -0,0 +1,94 @@
+package com.andreat.data_structures;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Lock-free union-find over a fixed set of elements (Jayanti-Tarjan style).
+// Roots are linked with a CAS on the parent array, the root of lower random
+// priority going under the other one; find compresses with CAS path halving,
+// whose failed CASes are simply ignored because they only skip an optimization
+public class ConcurrentUnionFind {
+    private final AtomicIntegerArray parent;
+    private final LongAdder unions;
+
+    public ConcurrentUnionFind(int n) {
+        if(n < 0) {
+            throw new IllegalArgumentException("Number of elements cannot be negative.");
+        }
+        parent = new AtomicIntegerArray(n);
+        for(int i = 0; i < n; i++) {
+            parent.set(i, i);
+        }
+        unions = new LongAdder();
+    }
+
+    // Pseudo-random but fixed priority, so linking does not depend on element numbering
+    private static int priority(int x) {
+        int h = x * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean lowerPriority(int x, int y) {
+        int px = priority(x);
+        int py = priority(y);
+        return px < py || (px == py && x < y);
+    }
+
+    public int find(int x) {
+        while(true) {
+            int p = parent.get(x);
+            if(p == x) {
+                return x;
+            }
+            int grandparent = parent.get(p);
+            if(p != grandparent) {
+                parent.compareAndSet(x, p, grandparent);
+            }
+            x = grandparent;
+        }
+    }
+
+    // Returns false if x and y were already in the same set
+    public boolean union(int x, int y) {
+        while(true) {
+            int rootX = find(x);
+            int rootY = find(y);
+            if(rootX == rootY) {
+                return false;
+            }
+            if(lowerPriority(rootY, rootX)) {
+                int tmp = rootX;
+                rootX = rootY;
+                rootY = tmp;
+            }
+            // Fails only if rootX stopped being a root in the meantime
+            if(parent.compareAndSet(rootX, rootX, rootY)) {
+                unions.increment();
+                return true;
+            }
+        }
+    }
+
+    public boolean connected(int x, int y) {
+        while(true) {
+            int rootX = find(x);
+            int rootY = find(y);
+            if(rootX == rootY) {
+                return true;
+            }
+            // rootX still being a root proves the two sets were disjoint at that moment
+            if(parent.get(rootX) == rootX) {
+                return false;
+            }
+        }
+    }
+
+    public int size() {
+        return parent.length();
+    }
+
+    // Exact once all unions have completed, approximate while they are running
+    public int countSets() {
+        return (int) (parent.length() - unions.sum());
+    }
+}
@@ -0,0 +1,155 @@
+package com.andreat.data_structures;
+
+import java.util.Arrays;
+
+// Immutable directed graph in compressed sparse row form: the out-edges of vertex v
+// are the indexes e in [offsets[v], offsets[v + 1]), with endpoint targets[e] and,
+// for weighted graphs, weight weights[e]. Vertices are 0..numVertices-1 and no
+// object is allocated per vertex or per edge.
+public final class CsrGraph {
+    private final int[] offsets;
+    private final int[] targets;
+    // Null for unweighted graphs
+    private final int[] weights;
+
+    private CsrGraph(int[] offsets, int[] targets, int[] weights) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    // Builds the graph from the directed edges sources[i] -> targets[i] with a counting
+    // sort in O(V + E). weights may be null; edges keep their relative order per vertex
+    public static CsrGraph fromEdges(int numVertices, int[] sources, int[] targets, int[] weights) {
+        return build(numVertices, sources, targets, weights, false);
+    }
+
+    // Like fromEdges, but adds every edge in both directions
+    public static CsrGraph fromUndirectedEdges(int numVertices, int[] sources, int[] targets, int[] weights) {
+        return build(numVertices, sources, targets, weights, true);
+    }
+
+    private static CsrGraph build(int numVertices, int[] sources, int[] targets, int[] weights, boolean undirected) {
+        if(numVertices < 0) {
+            throw new IllegalArgumentException("Number of vertices cannot be negative.");
+        }
+        if(sources.length != targets.length || (weights != null && weights.length != sources.length)) {
+            throw new IllegalArgumentException("Edge arrays must have the same length.");
+        }
+        long numEdges = undirected ? 2L * sources.length : sources.length;
+        if(numEdges > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many edges: " + numEdges);
+        }
+
+        int[] offsets = new int[numVertices + 1];
+        for(int i = 0; i < sources.length; i++) {
+            checkVertex(sources[i], numVertices);
+            checkVertex(targets[i], numVertices);
+            offsets[sources[i] + 1]++;
+            if(undirected) {
+                offsets[targets[i] + 1]++;
+            }
+        }
+        for(int v = 0; v < numVertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] edgeTargets = new int[(int) numEdges];
+        int[] edgeWeights = weights == null ? null : new int[(int) numEdges];
+        int[] next = Arrays.copyOf(offsets, numVertices);
+        for(int i = 0; i < sources.length; i++) {
+            int e = next[sources[i]]++;
+            edgeTargets[e] = targets[i];
+            if(edgeWeights != null) {
+                edgeWeights[e] = weights[i];
+            }
+            if(undirected) {
+                e = next[targets[i]]++;
+                edgeTargets[e] = sources[i];
+                if(edgeWeights != null) {
+                    edgeWeights[e] = weights[i];
+                }
+            }
+        }
+        return new CsrGraph(offsets, edgeTargets, edgeWeights);
+    }
+
+    private static void checkVertex(int v, int numVertices) {
+        if(v < 0 || v >= numVertices) {
+            throw new IllegalArgumentException("Invalid vertex: " + v);
+        }
+    }
+
+    // The same graph with every edge reversed
+    public CsrGraph transpose() {
+        int numVertices = numVertices();
+        int[] reversedOffsets = new int[numVertices + 1];
+        for(int target : targets) {
+            reversedOffsets[target + 1]++;
+        }
+        for(int v = 0; v < numVertices; v++) {
+            reversedOffsets[v + 1] += reversedOffsets[v];
+        }
+
+        int[] reversedTargets = new int[targets.length];
+        int[] reversedWeights = weights == null ? null : new int[weights.length];
+        int[] next = Arrays.copyOf(reversedOffsets, numVertices);
+        for(int v = 0; v < numVertices; v++) {
+            for(int e = offsets[v]; e < offsets[v + 1]; e++) {
+                int r = next[targets[e]]++;
+                reversedTargets[r] = v;
+                if(reversedWeights != null) {
+                    reversedWeights[r] = weights[e];
+                }
+            }
+        }
+        return new CsrGraph(reversedOffsets, reversedTargets, reversedWeights);
+    }
+
+    public int numVertices() {
+        return offsets.length - 1;
+    }
+
+    public int numEdges() {
+        return targets.length;
+    }
+
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    public int degree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    // First edge index of v
+    public int edgeBegin(int v) {
+        return offsets[v];
+    }
+
+    // One past the last edge index of v
+    public int edgeEnd(int v) {
+        return offsets[v + 1];
+    }
+
+    public int target(int e) {
+        return targets[e];
+    }
+
+    public int weight(int e) {
+        if(weights == null) {
+            throw new IllegalStateException("Graph is unweighted.");
+        }
+        return weights[e];
+    }
+
+    public int[] neighbors(int v) {
+        return Arrays.copyOfRange(targets, offsets[v], offsets[v + 1]);
+    }
+
+    // Bytes taken by the arrays, ignoring the constant array headers
+    public long sizeInBytes() {
+        long ints = (long) offsets.length + targets.length + (weights == null ? 0 : weights.length);
+        return ints * Integer.BYTES;
+    }
+}
@@ -0,0 +1,380 @@
+package com.andreat.data_structures;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+// Immutable trie over the UTF-8 bytes of its words, stored as a double array:
+// the child of node s for byte code c is t = base[s] + c, valid iff check[t] == s.
+// Code 0 marks the end of a word and byte b uses code b + 1. Each unit holds
+// (base, check) as two ints, so the trie is one flat buffer that can be saved
+// and later queried straight from a memory-mapped file.
+public class DoubleArrayTrie implements AutoCloseable {
+
+    static final long FILE_MAGIC = 0x4441545249453031L;
+    static final int FILE_HEADER_BYTES = 32;
+    private static final int UNIT_BYTES = 8;
+    // A single ByteBuffer addresses at most 2^31 bytes
+    private static final int MAX_UNITS = Integer.MAX_VALUE / UNIT_BYTES;
+
+    private static final int FREE = -1;
+    // Owner of the root unit: never equal to a node index, so no traversal can land on it
+    private static final int ROOT_CHECK = -2;
+    private static final int ALPHABET = 257;
+
+    private final FileChannel channel;
+    private ByteBuffer units;
+    private final int numUnits;
+    private final int size;
+
+    private DoubleArrayTrie(ByteBuffer units, int numUnits, int size, FileChannel channel) {
+        this.units = units;
+        this.numUnits = numUnits;
+        this.size = size;
+        this.channel = channel;
+    }
+
+    // Builds the trie from any collection of words; order and duplicates do not matter
+    public static DoubleArrayTrie build(Collection<String> words) {
+        byte[][] keys = new byte[words.size()][];
+        int n = 0;
+        for(String word : words) {
+            keys[n++] = encode(word);
+        }
+        Arrays.sort(keys, DoubleArrayTrie::compareUnsigned);
+
+        int distinct = 0;
+        for(int i = 0; i < n; i++) {
+            if(distinct == 0 || compareUnsigned(keys[distinct - 1], keys[i]) != 0) {
+                keys[distinct++] = keys[i];
+            }
+        }
+
+        Builder builder = new Builder(Arrays.copyOf(keys, distinct));
+        return builder.build();
+    }
+
+    public static DoubleArrayTrie build(Trie trie) {
+        return build(trie.words());
+    }
+
+    private static int compareUnsigned(byte[] a, byte[] b) {
+        int n = Math.min(a.length, b.length);
+        for(int i = 0; i < n; i++) {
+            int cmp = (a[i] & 0xFF) - (b[i] & 0xFF);
+            if(cmp != 0) {
+                return cmp;
+            }
+        }
+        return a.length - b.length;
+    }
+
+    // UTF-8, except that unpaired surrogates are encoded like any other char instead of
+    // being replaced, so that every String has a distinct key
+    private static byte[] encode(String word) {
+        byte[] out = new byte[word.length() * 3];
+        int length = 0;
+        for(int i = 0; i < word.length(); ) {
+            int codePoint = word.charAt(i++);
+            if(Character.isHighSurrogate((char) codePoint) && i < word.length()
+                    && Character.isLowSurrogate(word.charAt(i))) {
+                codePoint = Character.toCodePoint((char) codePoint, word.charAt(i++));
+            }
+            if(codePoint < 0x80) {
+                out[length++] = (byte) codePoint;
+            } else if(codePoint < 0x800) {
+                out[length++] = (byte) (0xC0 | codePoint >> 6);
+                out[length++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if(codePoint < 0x10000) {
+                out[length++] = (byte) (0xE0 | codePoint >> 12);
+                out[length++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                out[length++] = (byte) (0x80 | codePoint & 0x3F);
+            } else {
+                out[length++] = (byte) (0xF0 | codePoint >> 18);
+                out[length++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                out[length++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                out[length++] = (byte) (0x80 | codePoint & 0x3F);
+            }
+        }
+        return Arrays.copyOf(out, length);
+    }
+
+    private static class Builder {
+        private final byte[][] keys;
+        private int[] base;
+        private int[] check;
+        private int nextCheckPos;
+        private int maxIndex;
+
+        Builder(byte[][] keys) {
+            this.keys = keys;
+            int capacity = Math.max(1024, keys.length * 4);
+            base = new int[capacity];
+            check = new int[capacity];
+            Arrays.fill(check, FREE);
+            nextCheckPos = 1;
+            maxIndex = 0;
+        }
+
+        DoubleArrayTrie build() {
+            check[0] = ROOT_CHECK;
+            if(keys.length == 0) {
+                base[0] = 1;
+            } else {
+                int rootBase = insert(siblings(0, keys.length, 0), 0, 0);
+                base[0] = rootBase;
+            }
+
+            // Leave room for any code after the largest base, so lookups need only one bound check
+            int numUnits = maxIndex + 1;
+            for(int i = 0; i <= maxIndex; i++) {
+                if(check[i] != FREE && base[i] >= 0) {
+                    numUnits = Math.max(numUnits, base[i] + ALPHABET);
+                }
+            }
+            if(numUnits > MAX_UNITS) {
+                throw new IllegalStateException("Dictionary too large for a single buffer: " + numUnits + " units");
+            }
+            ensure(numUnits - 1);
+
+            ByteBuffer units = ByteBuffer.allocate(numUnits * UNIT_BYTES).order(ByteOrder.nativeOrder());
+            for(int i = 0; i < numUnits; i++) {
+                units.putInt(base[i]);
+                units.putInt(check[i]);
+            }
+            units.clear();
+            return new DoubleArrayTrie(units, numUnits, keys.length, null);
+        }
+
+        private void ensure(int index) {
+            if(index >= MAX_UNITS) {
+                throw new IllegalStateException("Dictionary too large for a single buffer.");
+            }
+            if(index < check.length) {
+                return;
+            }
+            int capacity = (int) Math.min(MAX_UNITS, Math.max(index + 1L, check.length * 3L / 2));
+            int oldCapacity = check.length;
+            base = Arrays.copyOf(base, capacity);
+            check = Arrays.copyOf(check, capacity);
+            Arrays.fill(check, oldCapacity, capacity, FREE);
+        }
+
+        // Children of the keys in [left, right) sharing their first depth bytes, as
+        // {code, first key, end key} triples in increasing code order
+        private List<int[]> siblings(int left, int right, int depth) {
+            List<int[]> siblings = new ArrayList<>();
+            int previous = -1;
+            for(int i = left; i < right; i++) {
+                byte[] key = keys[i];
+                int code = depth < key.length ? (key[depth] & 0xFF) + 1 : 0;
+                if(code != previous) {
+                    siblings.add(new int[]{code, i, i + 1});
+                    previous = code;
+                } else {
+                    siblings.get(siblings.size() - 1)[2] = i + 1;
+                }
+            }
+            return siblings;
+        }
+
+        // Finds a base at which every sibling slot is free, claims the slots for parent,
+        // then recursively places the children of each sibling; returns the base
+        private int insert(List<int[]> siblings, int parent, int depth) {
+            int firstCode = siblings.get(0)[0];
+            int lastCode = siblings.get(siblings.size() - 1)[0];
+
+            int pos = Math.max(firstCode + 1, nextCheckPos) - 1;
+            int occupied = 0;
+            boolean firstFree = true;
+            int begin;
+            while(true) {
+                pos++;
+                ensure(pos);
+                if(check[pos] != FREE) {
+                    occupied++;
+                    continue;
+                }
+                if(firstFree) {
+                    nextCheckPos = pos;
+                    firstFree = false;
+                }
+                begin = pos - firstCode;
+                if(begin < 1) {
+                    continue;
+                }
+                ensure(begin + lastCode);
+                boolean fits = true;
+                for(int[] sibling : siblings) {
+                    if(check[begin + sibling[0]] != FREE) {
+                        fits = false;
+                        break;
+                    }
+                }
+                if(fits) {
+                    break;
+                }
+            }
+            // Stop rescanning a region once it is almost full
+            if(occupied >= 0.95 * (pos - nextCheckPos + 1)) {
+                nextCheckPos = pos;
+            }
+
+            for(int[] sibling : siblings) {
+                check[begin + sibling[0]] = parent;
+                maxIndex = Math.max(maxIndex, begin + sibling[0]);
+            }
+            for(int[] sibling : siblings) {
+                int node = begin + sibling[0];
+                if(sibling[0] == 0) {
+                    base[node] = FREE;
+                } else {
+                    // insert may grow the arrays, so base is read only after it returns
+                    int childBase = insert(siblings(sibling[1], sibling[2], depth + 1), node, depth + 1);
+                    base[node] = childBase;
+                }
+            }
+            return begin;
+        }
+    }
+
+    public void save(Path path) throws IOException {
+        ensureOpen();
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES).order(ByteOrder.nativeOrder());
+        header.putLong(FILE_MAGIC);
+        header.putLong(numUnits);
+        header.putLong(size);
+        header.clear();
+
+        try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while(header.hasRemaining()) {
+                out.write(header);
+            }
+            ByteBuffer data = units.duplicate();
+            data.clear();
+            while(data.hasRemaining()) {
+                out.write(data);
+            }
+        }
+    }
+
+    // Maps a file written by save; nothing is copied onto the heap
+    public static DoubleArrayTrie open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES).order(ByteOrder.nativeOrder());
+            while(header.hasRemaining()) {
+                if(channel.read(header, header.position()) < 0) {
+                    throw new IOException("Truncated trie header.");
+                }
+            }
+            header.flip();
+
+            if(header.getLong() != FILE_MAGIC) {
+                throw new IOException("Not a trie file, or written with a different byte order.");
+            }
+            long numUnits = header.getLong();
+            long size = header.getLong();
+            if(numUnits < 1 || numUnits > MAX_UNITS || size < 0 || size > Integer.MAX_VALUE
+                    || channel.size() < FILE_HEADER_BYTES + numUnits * UNIT_BYTES) {
+                throw new IOException("Corrupted trie file.");
+            }
+
+            ByteBuffer units = channel.map(FileChannel.MapMode.READ_ONLY, FILE_HEADER_BYTES, numUnits * UNIT_BYTES);
+            units.order(ByteOrder.nativeOrder());
+            return new DoubleArrayTrie(units, (int) numUnits, (int) size, channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void ensureOpen() {
+        if(units == null) {
+            throw new IllegalStateException("Trie is closed.");
+        }
+    }
+
+    private int base(int node) {
+        return units.getInt(node * UNIT_BYTES);
+    }
+
+    private int check(int node) {
+        return units.getInt(node * UNIT_BYTES + 4);
+    }
+
+    private int child(int node, int code) {
+        int next = base(node) + code;
+        return next < numUnits && check(next) == node ? next : -1;
+    }
+
+    // Follows the UTF-8 bytes of key from the root, encoding on the fly; -1 if there is no such path
+    private int traverse(String key) {
+        int node = 0;
+        for(int i = 0; i < key.length() && node >= 0; ) {
+            int codePoint = key.charAt(i++);
+            if(Character.isHighSurrogate((char) codePoint) && i < key.length()
+                    && Character.isLowSurrogate(key.charAt(i))) {
+                codePoint = Character.toCodePoint((char) codePoint, key.charAt(i++));
+            }
+            if(codePoint < 0x80) {
+                node = child(node, codePoint + 1);
+            } else if(codePoint < 0x800) {
+                node = child(node, (0xC0 | codePoint >> 6) + 1);
+                node = node < 0 ? -1 : child(node, (0x80 | codePoint & 0x3F) + 1);
+            } else if(codePoint < 0x10000) {
+                node = child(node, (0xE0 | codePoint >> 12) + 1);
+                node = node < 0 ? -1 : child(node, (0x80 | codePoint >> 6 & 0x3F) + 1);
+                node = node < 0 ? -1 : child(node, (0x80 | codePoint & 0x3F) + 1);
+            } else {
+                node = child(node, (0xF0 | codePoint >> 18) + 1);
+                node = node < 0 ? -1 : child(node, (0x80 | codePoint >> 12 & 0x3F) + 1);
+                node = node < 0 ? -1 : child(node, (0x80 | codePoint >> 6 & 0x3F) + 1);
+                node = node < 0 ? -1 : child(node, (0x80 | codePoint & 0x3F) + 1);
+            }
+        }
+        return node;
+    }
+
+    public boolean search(String word) {
+        ensureOpen();
+        int node = traverse(word);
+        return node >= 0 && child(node, 0) >= 0;
+    }
+
+    public boolean startsWith(String prefix) {
+        ensureOpen();
+        return traverse(prefix) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Bytes taken by the double array, on the heap or in the mapped file
+    public long sizeInBytes() {
+        return (long) numUnits * UNIT_BYTES;
+    }
+
+    // The mapping stays valid until the buffer is collected; closing the channel
+    // only stops new mappings from being created
+    @Override
+    public void close() throws IOException {
+        units = null;
+        if(channel != null) {
+            channel.close();
+        }
+    }
+}
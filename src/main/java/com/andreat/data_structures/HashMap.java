@@ -1,38 +1,105 @@
 package com.andreat.data_structures;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 
 public class HashMap <K, V>{
 
     class HashNode<K, V> {
+        final int hash;
         K key;
         V value;
         HashNode<K, V> next;
 
-        public HashNode(K key, V value) {
+        public HashNode(int hash, K key, V value) {
+            this.hash = hash;
             this.key = key;
             this.value = value;
             this.next = null;
         }
     }
 
+    // A bucket whose chain reaches TREEIFY_THRESHOLD is turned into an AVL tree
+    // ordered by hash, then by key class and compareTo, then by insertion sequence
+    class TreeNode<K, V> extends HashNode<K, V> {
+        final long sequence;
+        TreeNode<K, V> left;
+        TreeNode<K, V> right;
+        int height;
+
+        public TreeNode(int hash, K key, V value, long sequence) {
+            super(hash, key, value);
+            this.sequence = sequence;
+            this.left = null;
+            this.right = null;
+            this.height = 1;
+        }
+    }
+
+    private static final int INITIAL_BUCKETS = 16;
+    private static final int MIGRATION_STEP = 4;
+    private static final int TREEIFY_THRESHOLD = 8;
+    private static final int MIN_TREEIFY_CAPACITY = 64;
+
     private ArrayList<HashNode<K, V>> bucketArray;
     private int numBuckets;
     private int size;
 
+    private final HashStrategy<? super K> hashStrategy;
+    private long treeSequence;
+
+    // Incremental resize: while rehashIndex >= 0 the buckets of oldBucketArray
+    // from rehashIndex onwards have not been moved to bucketArray yet
+    private final boolean incrementalResize;
+    private ArrayList<HashNode<K, V>> oldBucketArray;
+    private int oldNumBuckets;
+    private int rehashIndex;
+
     public HashMap() {
-        bucketArray = new ArrayList<>();
-        numBuckets = 10;
-        size = 0;
+        this(HashStrategy.defaultStrategy(), false);
+    }
+
+    public HashMap(boolean incrementalResize) {
+        this(HashStrategy.defaultStrategy(), incrementalResize);
+    }
+
+    public HashMap(HashStrategy<? super K> hashStrategy) {
+        this(hashStrategy, false);
+    }
 
-        for (int i = 0; i < numBuckets; i++) {
-            bucketArray.add(null);
+    public HashMap(HashStrategy<? super K> hashStrategy, boolean incrementalResize) {
+        if (hashStrategy == null) {
+            throw new IllegalArgumentException("Hash strategy cannot be null.");
         }
+        this.hashStrategy = hashStrategy;
+        this.incrementalResize = incrementalResize;
+        numBuckets = INITIAL_BUCKETS;
+        bucketArray = newBucketArray(numBuckets);
+        size = 0;
+        treeSequence = 0;
+        oldBucketArray = null;
+        oldNumBuckets = 0;
+        rehashIndex = -1;
+    }
+
+    private ArrayList<HashNode<K, V>> newBucketArray(int count) {
+        return new ArrayList<>(Collections.<HashNode<K, V>>nCopies(count, null));
     }
 
-    private int getBucketIndex(K key){
-        int hashCode = key.hashCode();
-        return Math.abs(hashCode) % numBuckets;
+    // MurmurHash3 finalizer: every input bit affects the low bits used as bucket index
+    private int hash(K key) {
+        int h = hashStrategy.hash(key);
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private int getBucketIndex(int hash, int buckets){
+        return hash & (buckets - 1);
     }
 
     public int size() {
@@ -43,13 +110,44 @@ public class HashMap <K, V>{
         return size == 0;
     }
 
+    public boolean isRehashing() {
+        return rehashIndex >= 0;
+    }
+
+    public int pendingMigration() {
+        return isRehashing() ? oldNumBuckets - rehashIndex : 0;
+    }
+
     public V get(K key){
-        int bucketIndex = getBucketIndex(key);
-        HashNode<K, V> head = bucketArray.get(bucketIndex);
+        if (isRehashing()) {
+            migrateBuckets(MIGRATION_STEP);
+        }
+
+        HashNode<K, V> node = findNode(hash(key), key);
+        return node != null ? node.value : null;
+    }
+
+    private HashNode<K, V> findNode(int hash, K key) {
+        HashNode<K, V> node = findInBucket(bucketArray.get(getBucketIndex(hash, numBuckets)), hash, key);
+
+        if (node == null && isRehashing()) {
+            int oldIndex = getBucketIndex(hash, oldNumBuckets);
+            if (oldIndex >= rehashIndex) {
+                node = findInBucket(oldBucketArray.get(oldIndex), hash, key);
+            }
+        }
+
+        return node;
+    }
+
+    private HashNode<K, V> findInBucket(HashNode<K, V> head, int hash, K key) {
+        if (head instanceof TreeNode) {
+            return findInTree((TreeNode<K, V>) head, hash, key);
+        }
 
         while (head != null) {
-            if (head.key.equals(key)) {
-                return head.value;
+            if (head.hash == hash && head.key.equals(key)) {
+                return head;
             }
             head = head.next;
         }
@@ -58,49 +156,130 @@ public class HashMap <K, V>{
     }
 
     public void put(K key, V value) {
-        int bucketIndex = getBucketIndex(key);
-        HashNode<K, V> head = bucketArray.get(bucketIndex);
+        if (isRehashing()) {
+            migrateBuckets(MIGRATION_STEP);
+        }
 
-        while (head != null) {
-            if (head.key.equals(key)) {
-                head.value = value;
-                return;
-            }
-            head = head.next;
+        int hash = hash(key);
+        HashNode<K, V> existing = findNode(hash, key);
+        if (existing != null) {
+            existing.value = value;
+            return;
         }
 
         size++;
-        head = bucketArray.get(bucketIndex);
-        HashNode<K, V> newNode = new HashNode<>(key, value);
-        newNode.next = head;
-        bucketArray.set(bucketIndex, newNode);
+        linkNode(bucketArray, getBucketIndex(hash, numBuckets), new HashNode<>(hash, key, value));
 
         if ((1.0 * size) / numBuckets >= 0.7) {
-            ArrayList<HashNode<K, V>> temp = bucketArray;
-            bucketArray = new ArrayList<>();
+            // A migration still in progress must finish before the table can grow again
+            if (isRehashing()) {
+                migrateBuckets(pendingMigration());
+            }
+            oldBucketArray = bucketArray;
+            oldNumBuckets = numBuckets;
+            rehashIndex = 0;
             numBuckets = 2 * numBuckets;
-            size = 0;
+            bucketArray = newBucketArray(numBuckets);
 
-            for (int i = 0; i < numBuckets; i++) {
-                bucketArray.add(null);
+            if (!incrementalResize) {
+                migrateBuckets(oldNumBuckets);
             }
+        }
+    }
+
+    private void linkNode(ArrayList<HashNode<K, V>> buckets, int bucketIndex, HashNode<K, V> node) {
+        HashNode<K, V> head = buckets.get(bucketIndex);
+
+        if (head instanceof TreeNode) {
+            buckets.set(bucketIndex, treeInsert((TreeNode<K, V>) head, newTreeNode(node)));
+            return;
+        }
 
-            for (HashNode<K, V> headNode : temp) {
-                while (headNode != null) {
-                    put(headNode.key, headNode.value);
-                    headNode = headNode.next;
+        node.next = head;
+        buckets.set(bucketIndex, node);
+
+        int chainLength = 0;
+        for (HashNode<K, V> e = node; e != null; e = e.next) {
+            chainLength++;
+        }
+        if (chainLength >= TREEIFY_THRESHOLD && buckets.size() >= MIN_TREEIFY_CAPACITY) {
+            treeify(buckets, bucketIndex);
+        }
+    }
+
+    private void migrateBuckets(int count) {
+        while (count > 0 && rehashIndex < oldNumBuckets) {
+            HashNode<K, V> node = oldBucketArray.get(rehashIndex);
+            oldBucketArray.set(rehashIndex, null);
+
+            if (node instanceof TreeNode) {
+                ArrayDeque<TreeNode<K, V>> stack = new ArrayDeque<>();
+                stack.push((TreeNode<K, V>) node);
+                while (!stack.isEmpty()) {
+                    TreeNode<K, V> t = stack.pop();
+                    if (t.left != null) {
+                        stack.push(t.left);
+                    }
+                    if (t.right != null) {
+                        stack.push(t.right);
+                    }
+                    linkNode(bucketArray, getBucketIndex(t.hash, numBuckets), new HashNode<>(t.hash, t.key, t.value));
+                }
+            } else {
+                while (node != null) {
+                    HashNode<K, V> next = node.next;
+                    linkNode(bucketArray, getBucketIndex(node.hash, numBuckets), node);
+                    node = next;
                 }
             }
+
+            rehashIndex++;
+            count--;
+        }
+
+        if (rehashIndex == oldNumBuckets) {
+            oldBucketArray = null;
+            oldNumBuckets = 0;
+            rehashIndex = -1;
         }
     }
 
     public V remove(K key){
-        int bucketIndex = getBucketIndex(key);
-        HashNode<K, V> head = bucketArray.get(bucketIndex);
+        if (isRehashing()) {
+            migrateBuckets(MIGRATION_STEP);
+        }
+
+        int hash = hash(key);
+        HashNode<K, V> removed = removeFrom(bucketArray, getBucketIndex(hash, numBuckets), hash, key);
+
+        if (removed == null && isRehashing()) {
+            int oldIndex = getBucketIndex(hash, oldNumBuckets);
+            if (oldIndex >= rehashIndex) {
+                removed = removeFrom(oldBucketArray, oldIndex, hash, key);
+            }
+        }
+
+        return removed != null ? removed.value : null;
+    }
+
+    private HashNode<K, V> removeFrom(ArrayList<HashNode<K, V>> buckets, int bucketIndex, int hash, K key) {
+        HashNode<K, V> head = buckets.get(bucketIndex);
+
+        if (head instanceof TreeNode) {
+            TreeNode<K, V> root = (TreeNode<K, V>) head;
+            TreeNode<K, V> target = findInTree(root, hash, key);
+            if (target == null) {
+                return null;
+            }
+            size--;
+            buckets.set(bucketIndex, treeDelete(root, target));
+            return target;
+        }
+
         HashNode<K, V> prev = null;
 
         while (head != null) {
-            if (head.key.equals(key)) {
+            if (head.hash == hash && head.key.equals(key)) {
                 break;
             }
             prev = head;
@@ -116,9 +295,168 @@ public class HashMap <K, V>{
         if (prev != null) {
             prev.next = head.next;
         } else {
-            bucketArray.set(bucketIndex, head.next);
+            buckets.set(bucketIndex, head.next);
+        }
+
+        return head;
+    }
+
+    private TreeNode<K, V> newTreeNode(HashNode<K, V> node) {
+        return new TreeNode<>(node.hash, node.key, node.value, treeSequence++);
+    }
+
+    private void treeify(ArrayList<HashNode<K, V>> buckets, int bucketIndex) {
+        TreeNode<K, V> root = null;
+        for (HashNode<K, V> e = buckets.get(bucketIndex); e != null; e = e.next) {
+            root = treeInsert(root, newTreeNode(e));
+        }
+        buckets.set(bucketIndex, root);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compareKeys(Object a, Object b) {
+        if (a.getClass() != b.getClass()) {
+            return a.getClass().getName().compareTo(b.getClass().getName());
+        }
+        if (a instanceof Comparable) {
+            return Integer.signum(((Comparable) a).compareTo(b));
+        }
+        return 0;
+    }
+
+    private int compareNodes(TreeNode<K, V> a, TreeNode<K, V> b) {
+        int c = Integer.compare(a.hash, b.hash);
+        if (c == 0) {
+            c = compareKeys(a.key, b.key);
+        }
+        if (c == 0) {
+            c = Long.compare(a.sequence, b.sequence);
+        }
+        return c;
+    }
+
+    private TreeNode<K, V> findInTree(TreeNode<K, V> root, int hash, K key) {
+        TreeNode<K, V> p = root;
+
+        while (p != null) {
+            if (hash < p.hash) {
+                p = p.left;
+            } else if (hash > p.hash) {
+                p = p.right;
+            } else if (p.key.equals(key)) {
+                return p;
+            } else {
+                int dir = compareKeys(key, p.key);
+                if (dir < 0) {
+                    p = p.left;
+                } else if (dir > 0) {
+                    p = p.right;
+                } else {
+                    // Keys that cannot be ordered may sit on either side
+                    TreeNode<K, V> found = findInTree(p.right, hash, key);
+                    if (found != null) {
+                        return found;
+                    }
+                    p = p.left;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private TreeNode<K, V> treeInsert(TreeNode<K, V> root, TreeNode<K, V> node) {
+        if (root == null) {
+            return node;
+        }
+
+        if (compareNodes(node, root) < 0) {
+            root.left = treeInsert(root.left, node);
+        } else {
+            root.right = treeInsert(root.right, node);
         }
 
-        return head.value;
+        return rebalance(root);
+    }
+
+    private TreeNode<K, V> treeDelete(TreeNode<K, V> root, TreeNode<K, V> node) {
+        if (root == null) {
+            return null;
+        }
+
+        if (root == node) {
+            if (root.left == null) {
+                return root.right;
+            } else if (root.right == null) {
+                return root.left;
+            }
+
+            TreeNode<K, V> successor = root.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeMin(root.right);
+            successor.left = root.left;
+            return rebalance(successor);
+        }
+
+        if (compareNodes(node, root) < 0) {
+            root.left = treeDelete(root.left, node);
+        } else {
+            root.right = treeDelete(root.right, node);
+        }
+
+        return rebalance(root);
+    }
+
+    private TreeNode<K, V> removeMin(TreeNode<K, V> root) {
+        if (root.left == null) {
+            return root.right;
+        }
+        root.left = removeMin(root.left);
+        return rebalance(root);
+    }
+
+    private int height(TreeNode<K, V> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private TreeNode<K, V> rebalance(TreeNode<K, V> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        int balance = height(node.left) - height(node.right);
+
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    private TreeNode<K, V> rotateRight(TreeNode<K, V> node) {
+        TreeNode<K, V> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        pivot.height = 1 + Math.max(height(pivot.left), height(pivot.right));
+        return pivot;
+    }
+
+    private TreeNode<K, V> rotateLeft(TreeNode<K, V> node) {
+        TreeNode<K, V> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        pivot.height = 1 + Math.max(height(pivot.left), height(pivot.right));
+        return pivot;
     }
 }
@@ -0,0 +1,14 @@
+package com.andreat.data_structures;
+
+// Hash function used by HashMap. The result is always passed through the map's
+// bit mixer, so a strategy only needs to spread distinct keys, e.g. with a
+// per-process seed against crafted collisions.
+@FunctionalInterface
+public interface HashStrategy<K> {
+
+    int hash(K key);
+
+    static <K> HashStrategy<K> defaultStrategy() {
+        return Object::hashCode;
+    }
+}
@@ -0,0 +1,154 @@
+package com.andreat.data_structures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// Min-heap over the ids 0..capacity-1, each holding an int key. An id can be
+// looked up and have its key changed in place, so every id occurs at most once
+public class IndexedMinHeap {
+    private final int arity;
+    private final int[] heap;
+    private final int[] position;
+    private final int[] keys;
+    private int size;
+
+    public IndexedMinHeap(int capacity) {
+        this(capacity, 2);
+    }
+
+    public IndexedMinHeap(int capacity, int arity) {
+        if(capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative.");
+        }
+        if(arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2.");
+        }
+        this.arity = arity;
+        heap = new int[capacity];
+        position = new int[capacity];
+        keys = new int[capacity];
+        Arrays.fill(position, -1);
+        size = 0;
+    }
+
+    private void checkId(int id) {
+        if(id < 0 || id >= position.length) {
+            throw new IllegalArgumentException("Invalid id: " + id);
+        }
+    }
+
+    public boolean contains(int id) {
+        checkId(id);
+        return position[id] >= 0;
+    }
+
+    public int keyOf(int id) {
+        if(!contains(id)) {
+            throw new NoSuchElementException("Id not in heap: " + id);
+        }
+        return keys[id];
+    }
+
+    public void insert(int id, int key) {
+        if(contains(id)) {
+            throw new IllegalArgumentException("Id already in heap: " + id);
+        }
+        keys[id] = key;
+        siftUp(size++, id);
+    }
+
+    public void decreaseKey(int id, int key) {
+        if(!contains(id)) {
+            throw new NoSuchElementException("Id not in heap: " + id);
+        }
+        if(key > keys[id]) {
+            throw new IllegalArgumentException("New key is greater than the current key.");
+        }
+        keys[id] = key;
+        siftUp(position[id], id);
+    }
+
+    public void increaseKey(int id, int key) {
+        if(!contains(id)) {
+            throw new NoSuchElementException("Id not in heap: " + id);
+        }
+        if(key < keys[id]) {
+            throw new IllegalArgumentException("New key is smaller than the current key.");
+        }
+        keys[id] = key;
+        siftDown(position[id], id);
+    }
+
+    public int peekMin() {
+        if(size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    public int minKey() {
+        return keys[peekMin()];
+    }
+
+    public int extractMin() {
+        int min = peekMin();
+        position[min] = -1;
+
+        int last = heap[--size];
+        if(size > 0) {
+            siftDown(0, last);
+        }
+
+        return min;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void siftUp(int i, int id) {
+        int key = keys[id];
+        while(i > 0) {
+            int parent = (i - 1) / arity;
+            int parentId = heap[parent];
+            if(keys[parentId] <= key) {
+                break;
+            }
+            heap[i] = parentId;
+            position[parentId] = i;
+            i = parent;
+        }
+        heap[i] = id;
+        position[id] = i;
+    }
+
+    private void siftDown(int i, int id) {
+        int key = keys[id];
+        while(true) {
+            int first = arity * i + 1;
+            if(first >= size) {
+                break;
+            }
+            int last = Math.min(first + arity, size);
+            int best = first;
+            for(int child = first + 1; child < last; child++) {
+                if(keys[heap[child]] < keys[heap[best]]) {
+                    best = child;
+                }
+            }
+            int bestId = heap[best];
+            if(keys[bestId] >= key) {
+                break;
+            }
+            heap[i] = bestId;
+            position[bestId] = i;
+            i = best;
+        }
+        heap[i] = id;
+        position[id] = i;
+    }
+}
@@ -0,0 +1,204 @@
+package com.andreat.data_structures;
+
+import java.util.Arrays;
+
+public class IntIntHashMap {
+
+    private static final int FREE_KEY = 0;
+    private static final double LOAD_FACTOR = 0.7;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int threshold;
+
+    // FREE_KEY marks empty slots in keys, so an entry whose key is 0 cannot live in the
+    // table and is kept in these two fields instead. LongObjectHashMap and
+    // OffHeapLongLongHashMap handle key 0 the same way
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    private final int noEntryValue;
+
+    public IntIntHashMap() {
+        this(16, 0);
+    }
+
+    public IntIntHashMap(int initialCapacity) {
+        this(initialCapacity, 0);
+    }
+
+    public IntIntHashMap(int initialCapacity, int noEntryValue) {
+        if(initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative.");
+        }
+        this.noEntryValue = noEntryValue;
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    private static int tableSizeFor(int expected) {
+        long needed = (long) Math.ceil(Math.max(expected, 2) / LOAD_FACTOR);
+        if(needed > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity too large.");
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int noEntryValue() {
+        return noEntryValue;
+    }
+
+    public boolean containsKey(int key) {
+        if(key == FREE_KEY) {
+            return hasZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    public int get(int key) {
+        return getOrDefault(key, noEntryValue);
+    }
+
+    public int getOrDefault(int key, int defaultValue) {
+        if(key == FREE_KEY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    private int indexOf(int key) {
+        int index = mix(key) & mask;
+        int k;
+        while((k = keys[index]) != FREE_KEY) {
+            if(k == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    public int put(int key, int value) {
+        if(key == FREE_KEY) {
+            int previous = hasZeroKey ? zeroValue : noEntryValue;
+            if(!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+
+        int index = mix(key) & mask;
+        int k;
+        while((k = keys[index]) != FREE_KEY) {
+            if(k == key) {
+                int previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        size++;
+
+        if(size >= threshold) {
+            rehash(keys.length * 2);
+        }
+        return noEntryValue;
+    }
+
+    private void rehash(int newCapacity) {
+        if(newCapacity <= 0) {
+            throw new IllegalStateException("Map is full.");
+        }
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+
+        for(int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if(key != FREE_KEY) {
+                int index = mix(key) & mask;
+                while(keys[index] != FREE_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    public int remove(int key) {
+        if(key == FREE_KEY) {
+            if(!hasZeroKey) {
+                return noEntryValue;
+            }
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+
+        int index = indexOf(key);
+        if(index < 0) {
+            return noEntryValue;
+        }
+
+        int previous = values[index];
+        shiftKeys(index);
+        size--;
+        return previous;
+    }
+
+    // Backward-shift deletion: rather than leaving a tombstone, the following keys of the
+    // probe run are moved back into the hole when that keeps them reachable from their
+    // home slot. Lookups never skip over deleted slots, and the table never needs a
+    // cleanup rehash. The other open-addressing maps in this package delete the same way
+    private void shiftKeys(int hole) {
+        int current = (hole + 1) & mask;
+        int k;
+        while((k = keys[current]) != FREE_KEY) {
+            int home = mix(k) & mask;
+            // Move the key into the hole if the hole lies between its home slot and its current slot
+            if(((current - home) & mask) >= ((current - hole) & mask)) {
+                keys[hole] = k;
+                values[hole] = values[current];
+                hole = current;
+            }
+            current = (current + 1) & mask;
+        }
+        keys[hole] = FREE_KEY;
+        values[hole] = 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        Arrays.fill(values, 0);
+        hasZeroKey = false;
+        size = 0;
+    }
+}
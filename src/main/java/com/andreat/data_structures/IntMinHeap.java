@@ -0,0 +1,124 @@
+package com.andreat.data_structures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+public class IntMinHeap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] heap;
+    private int size;
+
+    public IntMinHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntMinHeap(int initialCapacity) {
+        if(initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative.");
+        }
+        heap = new int[Math.max(initialCapacity, 1)];
+        size = 0;
+    }
+
+    // Bottom-up heap construction in O(n)
+    public IntMinHeap(int[] values) {
+        heap = Arrays.copyOf(values, Math.max(values.length, 1));
+        size = values.length;
+        for(int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(i, heap[i]);
+        }
+    }
+
+    // Moves the hole at index i up and stores value where it belongs
+    private void siftUp(int i, int value) {
+        while(i > 0) {
+            int parent = (i - 1) >>> 1;
+            int p = heap[parent];
+            if(value >= p) {
+                break;
+            }
+            heap[i] = p;
+            i = parent;
+        }
+        heap[i] = value;
+    }
+
+    // Moves the hole at index i down and stores value where it belongs
+    private void siftDown(int i, int value) {
+        int half = size >>> 1;
+        while(i < half) {
+            int child = 2 * i + 1;
+            int c = heap[child];
+            int right = child + 1;
+            if(right < size && heap[right] < c) {
+                child = right;
+                c = heap[right];
+            }
+            if(c >= value) {
+                break;
+            }
+            heap[i] = c;
+            i = child;
+        }
+        heap[i] = value;
+    }
+
+    public void insert(int value) {
+        if(size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        siftUp(size++, value);
+    }
+
+    public int extractMin() {
+        if(size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+
+        int top = heap[0];
+        int last = heap[--size];
+        if(size > 0) {
+            siftDown(0, last);
+        }
+
+        return top;
+    }
+
+    // Replaces the top with value and restores the heap with a single sift-down
+    public int replaceTop(int value) {
+        if(size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+
+        int top = heap[0];
+        siftDown(0, value);
+
+        return top;
+    }
+
+    public int peek() {
+        if(size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+
+        return heap[0];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(heap, size));
+    }
+}
@@ -0,0 +1,189 @@
+package com.andreat.data_structures;
+
+import java.util.Arrays;
+
+public class LongObjectHashMap<V> {
+
+    private static final long FREE_KEY = 0L;
+    private static final double LOAD_FACTOR = 0.7;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int threshold;
+
+    // Entry for key 0, which cannot be stored in the table (see IntIntHashMap)
+    private boolean hasZeroKey;
+    private V zeroValue;
+
+    public LongObjectHashMap() {
+        this(16);
+    }
+
+    public LongObjectHashMap(int initialCapacity) {
+        if(initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative.");
+        }
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    private static int tableSizeFor(int expected) {
+        long needed = (long) Math.ceil(Math.max(expected, 2) / LOAD_FACTOR);
+        if(needed > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity too large.");
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(long key) {
+        if(key == FREE_KEY) {
+            return hasZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if(key == FREE_KEY) {
+            return hasZeroKey ? zeroValue : null;
+        }
+        int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    private int indexOf(long key) {
+        int index = mix(key) & mask;
+        long k;
+        while((k = keys[index]) != FREE_KEY) {
+            if(k == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if(key == FREE_KEY) {
+            V previous = zeroValue;
+            if(!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+
+        int index = mix(key) & mask;
+        long k;
+        while((k = keys[index]) != FREE_KEY) {
+            if(k == key) {
+                V previous = (V) values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        size++;
+
+        if(size >= threshold) {
+            rehash(keys.length * 2);
+        }
+        return null;
+    }
+
+    private void rehash(int newCapacity) {
+        if(newCapacity <= 0) {
+            throw new IllegalStateException("Map is full.");
+        }
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+
+        for(int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if(key != FREE_KEY) {
+                int index = mix(key) & mask;
+                while(keys[index] != FREE_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if(key == FREE_KEY) {
+            if(!hasZeroKey) {
+                return null;
+            }
+            V previous = zeroValue;
+            hasZeroKey = false;
+            zeroValue = null;
+            size--;
+            return previous;
+        }
+
+        int index = indexOf(key);
+        if(index < 0) {
+            return null;
+        }
+
+        V previous = (V) values[index];
+        shiftKeys(index);
+        size--;
+        return previous;
+    }
+
+    // As IntIntHashMap.shiftKeys; the vacated value slot is nulled so the value can be collected
+    private void shiftKeys(int hole) {
+        int current = (hole + 1) & mask;
+        long k;
+        while((k = keys[current]) != FREE_KEY) {
+            int home = mix(k) & mask;
+            if(((current - home) & mask) >= ((current - hole) & mask)) {
+                keys[hole] = k;
+                values[hole] = values[current];
+                hole = current;
+            }
+            current = (current + 1) & mask;
+        }
+        keys[hole] = FREE_KEY;
+        values[hole] = null;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        Arrays.fill(values, null);
+        hasZeroKey = false;
+        zeroValue = null;
+        size = 0;
+    }
+}
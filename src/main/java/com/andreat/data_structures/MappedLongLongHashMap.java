@@ -0,0 +1,141 @@
+package com.andreat.data_structures;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.andreat.data_structures.OffHeapLongLongHashMap.FREE_KEY;
+import static com.andreat.data_structures.OffHeapLongLongHashMap.SEGMENT_MASK;
+import static com.andreat.data_structures.OffHeapLongLongHashMap.SEGMENT_SHIFT;
+import static com.andreat.data_structures.OffHeapLongLongHashMap.SLOT_BYTES;
+import static com.andreat.data_structures.OffHeapLongLongHashMap.SNAPSHOT_HEADER_BYTES;
+import static com.andreat.data_structures.OffHeapLongLongHashMap.SNAPSHOT_MAGIC;
+
+// Read-only view of a snapshot written by OffHeapLongLongHashMap.save: lookups
+// probe the mapped file directly, so opening costs no inserts
+public class MappedLongLongHashMap implements AutoCloseable {
+
+    private final FileChannel channel;
+    private MappedByteBuffer[] segments;
+    private final long mask;
+    private final long size;
+    private final boolean hasZeroKey;
+    private final long zeroValue;
+    private final long noEntryValue;
+
+    private MappedLongLongHashMap(FileChannel channel) throws IOException {
+        this.channel = channel;
+
+        ByteBuffer header = ByteBuffer.allocate(SNAPSHOT_HEADER_BYTES).order(ByteOrder.nativeOrder());
+        while(header.hasRemaining()) {
+            if(channel.read(header, header.position()) < 0) {
+                throw new IOException("Truncated snapshot header.");
+            }
+        }
+        header.flip();
+
+        if(header.getLong() != SNAPSHOT_MAGIC) {
+            throw new IOException("Not a snapshot file, or written with a different byte order.");
+        }
+        long capacity = header.getLong();
+        size = header.getLong();
+        hasZeroKey = header.getLong() != 0;
+        zeroValue = header.getLong();
+        noEntryValue = header.getLong();
+
+        if(capacity < 2 || Long.bitCount(capacity) != 1
+                || channel.size() < SNAPSHOT_HEADER_BYTES + capacity * SLOT_BYTES) {
+            throw new IOException("Corrupted snapshot file.");
+        }
+        mask = capacity - 1;
+
+        long segmentSlots = Math.min(capacity, 1L << SEGMENT_SHIFT);
+        segments = new MappedByteBuffer[(int) (capacity / segmentSlots)];
+        for(int i = 0; i < segments.length; i++) {
+            long offset = SNAPSHOT_HEADER_BYTES + i * segmentSlots * SLOT_BYTES;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, segmentSlots * SLOT_BYTES);
+            segments[i].order(ByteOrder.nativeOrder());
+        }
+    }
+
+    public static MappedLongLongHashMap open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new MappedLongLongHashMap(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void ensureOpen() {
+        if(segments == null) {
+            throw new IllegalStateException("Map is closed.");
+        }
+    }
+
+    private long keyAt(long slot) {
+        return segments[(int) (slot >>> SEGMENT_SHIFT)].getLong((int) (slot & SEGMENT_MASK) * SLOT_BYTES);
+    }
+
+    private long valueAt(long slot) {
+        return segments[(int) (slot >>> SEGMENT_SHIFT)].getLong((int) (slot & SEGMENT_MASK) * SLOT_BYTES + 8);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long noEntryValue() {
+        return noEntryValue;
+    }
+
+    public boolean containsKey(long key) {
+        ensureOpen();
+        if(key == FREE_KEY) {
+            return hasZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    public long get(long key) {
+        return getOrDefault(key, noEntryValue);
+    }
+
+    public long getOrDefault(long key, long defaultValue) {
+        ensureOpen();
+        if(key == FREE_KEY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        long slot = indexOf(key);
+        return slot >= 0 ? valueAt(slot) : defaultValue;
+    }
+
+    private long indexOf(long key) {
+        long slot = OffHeapLongLongHashMap.mix(key) & mask;
+        long k;
+        while((k = keyAt(slot)) != FREE_KEY) {
+            if(k == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    // Mappings stay valid until the buffers are collected; closing the channel
+    // only stops new mappings from being created
+    @Override
+    public void close() throws IOException {
+        segments = null;
+        channel.close();
+    }
+}
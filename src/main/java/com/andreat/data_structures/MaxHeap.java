@@ -1,60 +1,79 @@
 package com.andreat.data_structures;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 public class MaxHeap <T extends Comparable<T>> {
+    private static final int DEFAULT_ARITY = 2;
+
     private ArrayList<T> heap;
+    private final int arity;
 
     public MaxHeap() {
-        heap = new ArrayList<>();
-    }
-
-    private int parent(int i) {
-        return (i - 1) / 2;
+        this(DEFAULT_ARITY);
     }
 
-    private int leftChild(int i){
-        return 2 * i + 1;
+    public MaxHeap(int arity) {
+        if(arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2.");
+        }
+        this.arity = arity;
+        heap = new ArrayList<>();
     }
 
-    private int rightChild(int i){
-        return 2 * i + 2;
+    private int parent(int i) {
+        return (i - 1) / arity;
     }
 
-    private void swap(int i, int j) {
-        T temp = heap.get(i);
-        heap.set(i, heap.get(j));
-        heap.set(j, temp);
+    private int firstChild(int i){
+        return arity * i + 1;
     }
 
     public void insert(T element) {
         heap.add(element);
-        int current = heap.size() - 1;
-
-        while (current > 0 && heap.get(current).compareTo(heap.get(parent(current))) > 0) {
-            swap(current, parent(current));
-            current = parent(current);
-        }
+        siftUp(heap.size() - 1, element);
     }
 
-    private void heapify(int i) {
-        int left = leftChild(i);
-        int right = rightChild(i);
-        int largest = i;
-
-        if(left < heap.size() && heap.get(left).compareTo(heap.get(largest)) > 0) {
-            largest = left;
-        }
-
-        if(right < heap.size() && heap.get(right).compareTo(heap.get(largest)) > 0) {
-            largest = right;
+    // Moves the hole at index i up, shifting smaller parents down, then stores element
+    private void siftUp(int i, T element) {
+        while(i > 0) {
+            int parent = parent(i);
+            T parentElement = heap.get(parent);
+            if(element.compareTo(parentElement) <= 0) {
+                break;
+            }
+            heap.set(i, parentElement);
+            i = parent;
         }
+        heap.set(i, element);
+    }
 
-        if(largest != i) {
-            swap(i, largest);
-            heapify(largest);
+    // Moves the hole at index i down, shifting the largest child up, then stores element
+    private void siftDown(int i, T element) {
+        int size = heap.size();
+        while(true) {
+            int first = firstChild(i);
+            if(first >= size) {
+                break;
+            }
+            int last = Math.min(first + arity, size);
+            int largest = first;
+            T largestElement = heap.get(first);
+            for(int child = first + 1; child < last; child++) {
+                T childElement = heap.get(child);
+                if(childElement.compareTo(largestElement) > 0) {
+                    largest = child;
+                    largestElement = childElement;
+                }
+            }
+            if(largestElement.compareTo(element) <= 0) {
+                break;
+            }
+            heap.set(i, largestElement);
+            i = largest;
         }
+        heap.set(i, element);
     }
 
     public T extractMax(){
@@ -64,14 +83,29 @@ public class MaxHeap <T extends Comparable<T>> {
 
         T max = heap.get(0);
 
-        heap.set(0, heap.get(heap.size() - 1));
-        heap.remove(heap.size() - 1);
-
-        heapify(0);
+        T last = heap.remove(heap.size() - 1);
+        if(!heap.isEmpty()) {
+            siftDown(0, last);
+        }
 
         return max;
     }
 
+    // Removes up to k elements, largest first
+    public List<T> extractMaxBatch(int k){
+        if(k < 0) {
+            throw new IllegalArgumentException("Batch size cannot be negative.");
+        }
+
+        int count = Math.min(k, heap.size());
+        List<T> batch = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            batch.add(extractMax());
+        }
+
+        return batch;
+    }
+
     public T peek(){
         if(heap.size() == 0) {
             throw new NoSuchElementException("Heap is empty");
@@ -0,0 +1,142 @@
+package com.andreat.data_structures;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Bounded lock-free ring buffer for many producers and many consumers (Vyukov).
+// Every slot carries a sequence number: it equals the producer index when the slot
+// is free for that lap, and the producer index + 1 once the element is published.
+// Consumers step over slots holding SKIP
+public class MpmcArrayQueue<E> {
+    // Published into a slot that fill claimed but could not fill
+    private static final Object SKIP = new Object();
+
+    private final AtomicReferenceArray<Object> buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final PaddedAtomicLong producerIndex;
+    private final PaddedAtomicLong consumerIndex;
+
+    public MpmcArrayQueue(int capacity) {
+        if(capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30.");
+        }
+        // A single slot would make "free for the next lap" and "published" indistinguishable
+        int actualCapacity = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        buffer = new AtomicReferenceArray<>(actualCapacity);
+        sequences = new AtomicLongArray(actualCapacity);
+        for(int i = 0; i < actualCapacity; i++) {
+            sequences.set(i, i);
+        }
+        mask = actualCapacity - 1;
+        producerIndex = new PaddedAtomicLong(0);
+        consumerIndex = new PaddedAtomicLong(0);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    // Claims the next free slot, or returns -1 if the queue is full
+    private long claimProducerSlot() {
+        while(true) {
+            long index = producerIndex.get();
+            long difference = sequences.get((int) index & mask) - index;
+            if(difference == 0) {
+                if(producerIndex.compareAndSet(index, index + 1)) {
+                    return index;
+                }
+            } else if(difference < 0) {
+                return -1;
+            }
+        }
+    }
+
+    private void publish(long index, Object element) {
+        int offset = (int) index & mask;
+        buffer.lazySet(offset, element);
+        sequences.lazySet(offset, index + 1);
+    }
+
+    public boolean offer(E element) {
+        if(element == null) {
+            throw new NullPointerException();
+        }
+        long index = claimProducerSlot();
+        if(index < 0) {
+            return false;
+        }
+        publish(index, element);
+        return true;
+    }
+
+    // Offers up to limit elements from the supplier, stopping early when the queue is full.
+    // The supplier is only called once a slot is claimed; if it throws or returns null,
+    // that slot gets SKIP before the exception propagates
+    public int fill(Supplier<E> supplier, int limit) {
+        int filled = 0;
+        while(filled < limit) {
+            long index = claimProducerSlot();
+            if(index < 0) {
+                break;
+            }
+            Object element = SKIP;
+            try {
+                E supplied = supplier.get();
+                if(supplied == null) {
+                    throw new NullPointerException();
+                }
+                element = supplied;
+            } finally {
+                publish(index, element);
+            }
+            filled++;
+        }
+        return filled;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        while(true) {
+            long index = consumerIndex.get();
+            int offset = (int) index & mask;
+            long difference = sequences.get(offset) - (index + 1);
+            if(difference == 0) {
+                if(consumerIndex.compareAndSet(index, index + 1)) {
+                    Object element = buffer.get(offset);
+                    buffer.lazySet(offset, null);
+                    sequences.lazySet(offset, index + mask + 1);
+                    if(element != SKIP) {
+                        return (E) element;
+                    }
+                }
+            } else if(difference < 0) {
+                return null;
+            }
+        }
+    }
+
+    public int drain(Consumer<E> consumer, int limit) {
+        int drained = 0;
+        while(drained < limit) {
+            E element = poll();
+            if(element == null) {
+                break;
+            }
+            drained++;
+            consumer.accept(element);
+        }
+        return drained;
+    }
+
+    public int size() {
+        long size = producerIndex.get() - consumerIndex.get();
+        return (int) Math.max(0, Math.min(size, mask + 1));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
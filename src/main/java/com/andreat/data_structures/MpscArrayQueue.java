@@ -0,0 +1,162 @@
+package com.andreat.data_structures;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Bounded lock-free ring buffer for many producers and a single consumer.
+// Producers claim slots with a CAS on the producer index and publish the element
+// into the slot; the consumer treats a null slot as "not yet published" and
+// steps over slots holding SKIP. poll, drain and isEmpty must only be called
+// from the consumer thread.
+public class MpscArrayQueue<E> {
+    // Published into slots that fill claimed but could not fill
+    private static final Object SKIP = new Object();
+
+    private final AtomicReferenceArray<Object> buffer;
+    private final int mask;
+    private final PaddedAtomicLong producerIndex;
+    // Producers may claim slots below this index without reading the consumer index
+    private final PaddedAtomicLong producerLimit;
+    private final PaddedAtomicLong consumerIndex;
+
+    public MpscArrayQueue(int capacity) {
+        if(capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30.");
+        }
+        int actualCapacity = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        buffer = new AtomicReferenceArray<>(actualCapacity);
+        mask = actualCapacity - 1;
+        producerIndex = new PaddedAtomicLong(0);
+        producerLimit = new PaddedAtomicLong(actualCapacity);
+        consumerIndex = new PaddedAtomicLong(0);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public boolean offer(E element) {
+        if(element == null) {
+            throw new NullPointerException();
+        }
+        long index;
+        do {
+            index = producerIndex.get();
+            if(index >= producerLimit.get() && !refreshLimit(index + 1)) {
+                return false;
+            }
+        } while(!producerIndex.compareAndSet(index, index + 1));
+
+        buffer.lazySet((int) index & mask, element);
+        return true;
+    }
+
+    // Re-reads the consumer index; returns false if the queue cannot reach required
+    private boolean refreshLimit(long required) {
+        long limit = consumerIndex.get() + mask + 1;
+        if(limit < required) {
+            return false;
+        }
+        producerLimit.lazySet(limit);
+        return true;
+    }
+
+    // Claims up to limit slots with a single CAS and fills them from the supplier.
+    // If the supplier throws or returns null, the remaining claimed slots get SKIP
+    // before the exception propagates, so the consumer is never left waiting on them
+    public int fill(Supplier<E> supplier, int limit) {
+        if(limit <= 0) {
+            return 0;
+        }
+        long index;
+        int batch;
+        do {
+            index = producerIndex.get();
+            long available = producerLimit.get() - index;
+            if(available < limit) {
+                refreshLimit(index + 1);
+                available = producerLimit.get() - index;
+            }
+            if(available <= 0) {
+                return 0;
+            }
+            batch = (int) Math.min(available, limit);
+        } while(!producerIndex.compareAndSet(index, index + batch));
+
+        int filled = 0;
+        try {
+            for(; filled < batch; filled++) {
+                E element = supplier.get();
+                if(element == null) {
+                    throw new NullPointerException();
+                }
+                buffer.lazySet((int) (index + filled) & mask, element);
+            }
+        } finally {
+            for(int i = filled; i < batch; i++) {
+                buffer.lazySet((int) (index + i) & mask, SKIP);
+            }
+        }
+        return batch;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        while(true) {
+            long index = consumerIndex.get();
+            int offset = (int) index & mask;
+            Object element = buffer.get(offset);
+            if(element == null) {
+                if(index == producerIndex.get()) {
+                    return null;
+                }
+                // A producer has claimed the slot but not yet published into it
+                do {
+                    element = buffer.get(offset);
+                } while(element == null);
+            }
+            buffer.lazySet(offset, null);
+            consumerIndex.lazySet(index + 1);
+            if(element != SKIP) {
+                return (E) element;
+            }
+        }
+    }
+
+    // Hands up to limit published elements to the consumer, advancing the index once
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<E> consumer, int limit) {
+        long index = consumerIndex.get();
+        // Slots consumed, including skipped ones
+        int consumed = 0;
+        int drained = 0;
+        try {
+            while(drained < limit) {
+                int offset = (int) (index + consumed) & mask;
+                Object element = buffer.get(offset);
+                if(element == null) {
+                    break;
+                }
+                buffer.lazySet(offset, null);
+                consumed++;
+                if(element != SKIP) {
+                    drained++;
+                    consumer.accept((E) element);
+                }
+            }
+        } finally {
+            consumerIndex.lazySet(index + consumed);
+        }
+        return drained;
+    }
+
+    public int size() {
+        long size = producerIndex.get() - consumerIndex.get();
+        return (int) Math.max(0, Math.min(size, mask + 1));
+    }
+
+    public boolean isEmpty() {
+        return consumerIndex.get() == producerIndex.get();
+    }
+}
@@ -0,0 +1,157 @@
+package com.andreat.data_structures;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Relaxed concurrent max-priority queue made of several MaxHeaps, each behind its
+// own lock. poll() takes the larger top of two randomly chosen heaps, so the
+// element returned is among the O(numQueues) largest in expectation.
+// pollStrict() locks every heap and always returns the global maximum.
+public class MultiQueue<T extends Comparable<T>> {
+
+    static class SubQueue<T extends Comparable<T>> {
+        final ReentrantLock lock = new ReentrantLock();
+        final MaxHeap<T> heap = new MaxHeap<>();
+        // Top of the heap published for lock-free peeking, null when empty
+        volatile T top = null;
+
+        T extractMax() {
+            T max = heap.extractMax();
+            top = heap.isEmpty() ? null : heap.peek();
+            return max;
+        }
+    }
+
+    // Failed tryLock attempts before a thread blocks on a heap's lock instead of spinning
+    private static final int SPIN_ATTEMPTS = 4;
+
+    private final SubQueue<T>[] queues;
+    private final AtomicInteger size;
+
+    public MultiQueue() {
+        this(2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    @SuppressWarnings("unchecked")
+    public MultiQueue(int numQueues) {
+        if(numQueues < 1) {
+            throw new IllegalArgumentException("At least one queue is required.");
+        }
+        queues = (SubQueue<T>[]) new SubQueue<?>[numQueues];
+        for(int i = 0; i < numQueues; i++) {
+            queues[i] = new SubQueue<>();
+        }
+        size = new AtomicInteger(0);
+    }
+
+    public void insert(T element) {
+        if(element == null) {
+            throw new NullPointerException();
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for(int attempt = 1; ; attempt++) {
+            SubQueue<T> queue = queues[random.nextInt(queues.length)];
+            if(attempt >= SPIN_ATTEMPTS) {
+                queue.lock.lock();
+            } else if(!queue.lock.tryLock()) {
+                continue;
+            }
+            try {
+                queue.heap.insert(element);
+                queue.top = queue.heap.peek();
+            } finally {
+                queue.lock.unlock();
+            }
+            size.incrementAndGet();
+            return;
+        }
+    }
+
+    // Returns a large element, not necessarily the largest, or null if the queue is empty
+    public T poll() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for(int attempt = 1; ; attempt++) {
+            SubQueue<T> first = queues[random.nextInt(queues.length)];
+            SubQueue<T> second = queues[random.nextInt(queues.length)];
+            T firstTop = first.top;
+            T secondTop = second.top;
+
+            SubQueue<T> chosen;
+            if(firstTop == null && secondTop == null) {
+                chosen = anyNonEmpty();
+                if(chosen == null) {
+                    return null;
+                }
+            } else if(secondTop == null || (firstTop != null && firstTop.compareTo(secondTop) >= 0)) {
+                chosen = first;
+            } else {
+                chosen = second;
+            }
+
+            if(attempt >= SPIN_ATTEMPTS) {
+                chosen.lock.lock();
+            } else if(!chosen.lock.tryLock()) {
+                continue;
+            }
+            try {
+                if(!chosen.heap.isEmpty()) {
+                    T max = chosen.extractMax();
+                    size.decrementAndGet();
+                    return max;
+                }
+            } finally {
+                chosen.lock.unlock();
+            }
+        }
+    }
+
+    private SubQueue<T> anyNonEmpty() {
+        int start = ThreadLocalRandom.current().nextInt(queues.length);
+        for(int i = 0; i < queues.length; i++) {
+            SubQueue<T> queue = queues[(start + i) % queues.length];
+            if(queue.top != null) {
+                return queue;
+            }
+        }
+        return null;
+    }
+
+    // Returns the largest element, or null if the queue is empty
+    public T pollStrict() {
+        for(SubQueue<T> queue : queues) {
+            queue.lock.lock();
+        }
+        try {
+            SubQueue<T> best = null;
+            for(SubQueue<T> queue : queues) {
+                if(!queue.heap.isEmpty() && (best == null || queue.heap.peek().compareTo(best.heap.peek()) > 0)) {
+                    best = queue;
+                }
+            }
+            if(best == null) {
+                return null;
+            }
+            size.decrementAndGet();
+            return best.extractMax();
+        } finally {
+            for(int i = queues.length - 1; i >= 0; i--) {
+                queues[i].lock.unlock();
+            }
+        }
+    }
+
+    public int size() {
+        return Math.max(0, size.get());
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int numQueues() {
+        return queues.length;
+    }
+}
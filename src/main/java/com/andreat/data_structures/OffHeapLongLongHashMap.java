@@ -0,0 +1,275 @@
+package com.andreat.data_structures;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class OffHeapLongLongHashMap implements AutoCloseable {
+
+    static final long FREE_KEY = 0L;
+    static final int SLOT_BYTES = 16;
+    // Each direct buffer holds at most 2^26 slots (1 GiB), larger tables span several buffers
+    static final int SEGMENT_SHIFT = 26;
+    static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+    // Snapshot file: a 64-byte header followed by the slots exactly as laid out in memory
+    static final long SNAPSHOT_MAGIC = 0x4F484C4C534E4150L;
+    static final int SNAPSHOT_HEADER_BYTES = 64;
+
+    private static final double LOAD_FACTOR = 0.7;
+    private static final long MAXIMUM_CAPACITY = 1L << 40;
+
+    private ByteBuffer[] segments;
+    private long capacity;
+    private long mask;
+    private long size;
+    private long threshold;
+
+    // Entry for key 0, kept on heap as in IntIntHashMap and saved in the snapshot header
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    private final long noEntryValue;
+    private boolean closed;
+
+    public OffHeapLongLongHashMap() {
+        this(16, 0L);
+    }
+
+    public OffHeapLongLongHashMap(long initialCapacity) {
+        this(initialCapacity, 0L);
+    }
+
+    public OffHeapLongLongHashMap(long initialCapacity, long noEntryValue) {
+        if(initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative.");
+        }
+        this.noEntryValue = noEntryValue;
+        segments = allocate(tableSizeFor(initialCapacity));
+    }
+
+    private static long tableSizeFor(long expected) {
+        long needed = (long) Math.ceil(Math.max(expected, 2) / LOAD_FACTOR);
+        if(needed > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Capacity too large.");
+        }
+        return Long.highestOneBit(needed - 1) << 1;
+    }
+
+    private ByteBuffer[] allocate(long newCapacity) {
+        int segmentSlots = (int) Math.min(newCapacity, 1L << SEGMENT_SHIFT);
+        ByteBuffer[] buffers = new ByteBuffer[(int) (newCapacity / segmentSlots)];
+        for(int i = 0; i < buffers.length; i++) {
+            buffers[i] = ByteBuffer.allocateDirect(segmentSlots * SLOT_BYTES).order(ByteOrder.nativeOrder());
+        }
+        capacity = newCapacity;
+        mask = newCapacity - 1;
+        threshold = (long) (newCapacity * LOAD_FACTOR);
+        return buffers;
+    }
+
+    static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    private long keyAt(long slot) {
+        return segments[(int) (slot >>> SEGMENT_SHIFT)].getLong((int) (slot & SEGMENT_MASK) * SLOT_BYTES);
+    }
+
+    private long valueAt(long slot) {
+        return segments[(int) (slot >>> SEGMENT_SHIFT)].getLong((int) (slot & SEGMENT_MASK) * SLOT_BYTES + 8);
+    }
+
+    private void write(long slot, long key, long value) {
+        ByteBuffer segment = segments[(int) (slot >>> SEGMENT_SHIFT)];
+        int offset = (int) (slot & SEGMENT_MASK) * SLOT_BYTES;
+        segment.putLong(offset, key);
+        segment.putLong(offset + 8, value);
+    }
+
+    private void ensureOpen() {
+        if(closed) {
+            throw new IllegalStateException("Map is closed.");
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long noEntryValue() {
+        return noEntryValue;
+    }
+
+    public long offHeapBytes() {
+        return closed ? 0 : capacity * SLOT_BYTES;
+    }
+
+    public boolean containsKey(long key) {
+        ensureOpen();
+        if(key == FREE_KEY) {
+            return hasZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    public long get(long key) {
+        return getOrDefault(key, noEntryValue);
+    }
+
+    public long getOrDefault(long key, long defaultValue) {
+        ensureOpen();
+        if(key == FREE_KEY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        long slot = indexOf(key);
+        return slot >= 0 ? valueAt(slot) : defaultValue;
+    }
+
+    private long indexOf(long key) {
+        long slot = mix(key) & mask;
+        long k;
+        while((k = keyAt(slot)) != FREE_KEY) {
+            if(k == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    public long put(long key, long value) {
+        ensureOpen();
+        if(key == FREE_KEY) {
+            long previous = hasZeroKey ? zeroValue : noEntryValue;
+            if(!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+
+        long slot = mix(key) & mask;
+        long k;
+        while((k = keyAt(slot)) != FREE_KEY) {
+            if(k == key) {
+                long previous = valueAt(slot);
+                write(slot, key, value);
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        write(slot, key, value);
+        size++;
+
+        if(size >= threshold) {
+            rehash(capacity * 2);
+        }
+        return noEntryValue;
+    }
+
+    private void rehash(long newCapacity) {
+        if(newCapacity > MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Map is full.");
+        }
+        ByteBuffer[] oldSegments = segments;
+        long oldCapacity = capacity;
+        segments = allocate(newCapacity);
+
+        int oldSegmentSlots = (int) Math.min(oldCapacity, 1L << SEGMENT_SHIFT);
+        for(ByteBuffer oldSegment : oldSegments) {
+            for(int i = 0; i < oldSegmentSlots; i++) {
+                long key = oldSegment.getLong(i * SLOT_BYTES);
+                if(key != FREE_KEY) {
+                    long slot = mix(key) & mask;
+                    while(keyAt(slot) != FREE_KEY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    write(slot, key, oldSegment.getLong(i * SLOT_BYTES + 8));
+                }
+            }
+        }
+    }
+
+    public long remove(long key) {
+        ensureOpen();
+        if(key == FREE_KEY) {
+            if(!hasZeroKey) {
+                return noEntryValue;
+            }
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+
+        long slot = indexOf(key);
+        if(slot < 0) {
+            return noEntryValue;
+        }
+
+        long previous = valueAt(slot);
+        shiftKeys(slot);
+        size--;
+        return previous;
+    }
+
+    // As IntIntHashMap.shiftKeys, with slots read and written through the segments
+    private void shiftKeys(long hole) {
+        long current = (hole + 1) & mask;
+        long k;
+        while((k = keyAt(current)) != FREE_KEY) {
+            long home = mix(k) & mask;
+            if(((current - home) & mask) >= ((current - hole) & mask)) {
+                write(hole, k, valueAt(current));
+                hole = current;
+            }
+            current = (current + 1) & mask;
+        }
+        write(hole, FREE_KEY, 0L);
+    }
+
+    public void save(Path path) throws IOException {
+        ensureOpen();
+        ByteBuffer header = ByteBuffer.allocate(SNAPSHOT_HEADER_BYTES).order(ByteOrder.nativeOrder());
+        header.putLong(SNAPSHOT_MAGIC);
+        header.putLong(capacity);
+        header.putLong(size);
+        header.putLong(hasZeroKey ? 1L : 0L);
+        header.putLong(zeroValue);
+        header.putLong(noEntryValue);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, header);
+            for(ByteBuffer segment : segments) {
+                writeFully(channel, segment.duplicate());
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        while(buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // Direct buffers are released by the garbage collector once unreachable;
+    // close() drops every reference to them and rejects further use of the map
+    @Override
+    public void close() {
+        segments = null;
+        closed = true;
+        size = 0;
+        hasZeroKey = false;
+    }
+}
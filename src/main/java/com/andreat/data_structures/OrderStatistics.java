@@ -0,0 +1,149 @@
+package com.andreat.data_structures;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Order-statistic queries and in-order iteration for binary search trees whose
+// nodes store their subtree size. Trees subclass it to expose their node fields;
+// an empty subtree is the sentinel node, which must report size 0.
+abstract class OrderStatistics<T extends Comparable<T>, N> {
+    private final N sentinel;
+
+    OrderStatistics(N sentinel) {
+        this.sentinel = sentinel;
+    }
+
+    abstract N left(N node);
+
+    abstract N right(N node);
+
+    abstract T data(N node);
+
+    abstract int size(N node);
+
+    // Number of elements strictly smaller than data
+    int rank(N root, T data) {
+        int rank = 0;
+        N current = root;
+
+        while(current != sentinel) {
+            int cmp = data.compareTo(data(current));
+            if(cmp < 0) {
+                current = left(current);
+            } else if(cmp > 0) {
+                rank += 1 + size(left(current));
+                current = right(current);
+            } else {
+                return rank + size(left(current));
+            }
+        }
+
+        return rank;
+    }
+
+    // The k-th smallest element, counting from 0
+    T select(N root, int k) {
+        if(k < 0 || k >= size(root)) {
+            throw new IllegalArgumentException("Rank out of range: " + k);
+        }
+
+        N current = root;
+        while(true) {
+            int leftSize = size(left(current));
+            if(k < leftSize) {
+                current = left(current);
+            } else if(k > leftSize) {
+                k -= leftSize + 1;
+                current = right(current);
+            } else {
+                return data(current);
+            }
+        }
+    }
+
+    // Largest element <= data, or null if there is none
+    T floor(N root, T data) {
+        T floor = null;
+        N current = root;
+
+        while(current != sentinel) {
+            int cmp = data.compareTo(data(current));
+            if(cmp < 0) {
+                current = left(current);
+            } else if(cmp > 0) {
+                floor = data(current);
+                current = right(current);
+            } else {
+                return data(current);
+            }
+        }
+
+        return floor;
+    }
+
+    // Smallest element >= data, or null if there is none
+    T ceiling(N root, T data) {
+        T ceiling = null;
+        N current = root;
+
+        while(current != sentinel) {
+            int cmp = data.compareTo(data(current));
+            if(cmp > 0) {
+                current = right(current);
+            } else if(cmp < 0) {
+                ceiling = data(current);
+                current = left(current);
+            } else {
+                return data(current);
+            }
+        }
+
+        return ceiling;
+    }
+
+    // Lazily yields the elements in [lo, hi] in order, keeping only one root-to-leaf
+    // path on a stack; a null bound leaves that side open
+    Iterator<T> range(N root, T lo, T hi) {
+        return new RangeIterator(root, lo, hi);
+    }
+
+    private class RangeIterator implements Iterator<T> {
+        private final ArrayDeque<N> stack;
+        private final T lo;
+        private final T hi;
+
+        RangeIterator(N root, T lo, T hi) {
+            this.stack = new ArrayDeque<>();
+            this.lo = lo;
+            this.hi = hi;
+            pushLeft(root);
+        }
+
+        private void pushLeft(N node) {
+            while(node != sentinel) {
+                if(lo != null && data(node).compareTo(lo) < 0) {
+                    node = right(node);
+                } else {
+                    stack.push(node);
+                    node = left(node);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty() && (hi == null || data(stack.peek()).compareTo(hi) <= 0);
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            N node = stack.pop();
+            pushLeft(right(node));
+            return data(node);
+        }
+    }
+}
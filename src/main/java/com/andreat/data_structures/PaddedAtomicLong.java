@@ -0,0 +1,16 @@
+package com.andreat.data_structures;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// AtomicLong followed by a cache line of unused fields, so that counters written
+// by different threads (e.g. producer and consumer indexes) do not share a line
+@SuppressWarnings("unused")
+class PaddedAtomicLong extends AtomicLong {
+    private static final long serialVersionUID = 1L;
+
+    private long p1, p2, p3, p4, p5, p6, p7;
+
+    PaddedAtomicLong(long initialValue) {
+        super(initialValue);
+    }
+}
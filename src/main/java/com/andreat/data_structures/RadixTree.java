@@ -0,0 +1,222 @@
+package com.andreat.data_structures;
+
+import java.util.Arrays;
+
+// Path-compressed trie (Patricia / radix tree): every chain of single-child nodes
+// is collapsed into one edge whose label is a char slice. Children are kept sorted
+// by the first char of their label, which is unique among siblings.
+public class RadixTree {
+
+    static class Node {
+        // Label of the edge leading into this node; empty only for the root
+        char[] label;
+        Node[] children;
+        boolean isEndOfWord;
+
+        Node(char[] label, boolean isEndOfWord) {
+            this.label = label;
+            this.children = NO_CHILDREN;
+            this.isEndOfWord = isEndOfWord;
+        }
+    }
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root;
+    private int size;
+    private int nodeCount;
+
+    public RadixTree() {
+        root = new Node(new char[0], false);
+        size = 0;
+        nodeCount = 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    private static int indexOf(Node node, char c) {
+        int low = 0;
+        int high = node.children.length - 1;
+        while(low <= high) {
+            int mid = (low + high) >>> 1;
+            char first = node.children[mid].label[0];
+            if(first < c) {
+                low = mid + 1;
+            } else if(first > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    // Length of the common prefix of label and key[offset..]
+    private static int commonPrefix(char[] label, String key, int offset) {
+        int max = Math.min(label.length, key.length() - offset);
+        int i = 0;
+        while(i < max && label[i] == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    public void insert(String word) {
+        Node node = root;
+        int i = 0;
+
+        while(i < word.length()) {
+            int index = indexOf(node, word.charAt(i));
+            if(index < 0) {
+                Node leaf = new Node(word.substring(i).toCharArray(), true);
+                insertChild(node, -(index + 1), leaf);
+                nodeCount++;
+                size++;
+                return;
+            }
+
+            Node child = node.children[index];
+            int common = commonPrefix(child.label, word, i);
+            if(common < child.label.length) {
+                // Split the edge: the shared part becomes a new node above the old child
+                Node middle = new Node(Arrays.copyOf(child.label, common), false);
+                child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+                middle.children = new Node[]{child};
+                node.children[index] = middle;
+                nodeCount++;
+                child = middle;
+            }
+            node = child;
+            i += common;
+        }
+
+        if(!node.isEndOfWord) {
+            node.isEndOfWord = true;
+            size++;
+        }
+    }
+
+    private static void insertChild(Node node, int position, Node child) {
+        Node[] children = new Node[node.children.length + 1];
+        System.arraycopy(node.children, 0, children, 0, position);
+        children[position] = child;
+        System.arraycopy(node.children, position, children, position + 1, node.children.length - position);
+        node.children = children;
+    }
+
+    private static void removeChild(Node node, int position) {
+        if(node.children.length == 1) {
+            node.children = NO_CHILDREN;
+            return;
+        }
+        Node[] children = new Node[node.children.length - 1];
+        System.arraycopy(node.children, 0, children, 0, position);
+        System.arraycopy(node.children, position + 1, children, position, children.length - position);
+        node.children = children;
+    }
+
+    public boolean search(String word) {
+        Node node = root;
+        int i = 0;
+
+        while(i < word.length()) {
+            int index = indexOf(node, word.charAt(i));
+            if(index < 0) {
+                return false;
+            }
+            node = node.children[index];
+            if(commonPrefix(node.label, word, i) < node.label.length) {
+                return false;
+            }
+            i += node.label.length;
+        }
+
+        return node.isEndOfWord;
+    }
+
+    public boolean startsWith(String prefix) {
+        Node node = root;
+        int i = 0;
+
+        while(i < prefix.length()) {
+            int index = indexOf(node, prefix.charAt(i));
+            if(index < 0) {
+                return false;
+            }
+            node = node.children[index];
+            int common = commonPrefix(node.label, prefix, i);
+            if(i + common == prefix.length()) {
+                return true;
+            }
+            if(common < node.label.length) {
+                return false;
+            }
+            i += common;
+        }
+
+        return true;
+    }
+
+    public void delete(String word) {
+        Node parent = null;
+        int parentIndex = -1;
+        Node node = root;
+        int i = 0;
+
+        while(i < word.length()) {
+            int index = indexOf(node, word.charAt(i));
+            if(index < 0) {
+                return;
+            }
+            Node child = node.children[index];
+            if(commonPrefix(child.label, word, i) < child.label.length) {
+                return;
+            }
+            parent = node;
+            parentIndex = index;
+            node = child;
+            i += child.label.length;
+        }
+
+        if(!node.isEndOfWord) {
+            return;
+        }
+        node.isEndOfWord = false;
+        size--;
+
+        if(node == root) {
+            return;
+        }
+        if(node.children.length == 0) {
+            removeChild(parent, parentIndex);
+            nodeCount--;
+            // The parent may now be a pass-through node with a single child
+            if(parent != root && !parent.isEndOfWord && parent.children.length == 1) {
+                mergeWithChild(parent);
+            }
+        } else if(node.children.length == 1) {
+            mergeWithChild(node);
+        }
+    }
+
+    // Absorbs the only child of node, concatenating the two edge labels
+    private void mergeWithChild(Node node) {
+        Node child = node.children[0];
+        char[] label = Arrays.copyOf(node.label, node.label.length + child.label.length);
+        System.arraycopy(child.label, 0, label, node.label.length, child.label.length);
+        node.label = label;
+        node.children = child.children;
+        node.isEndOfWord = child.isEndOfWord;
+        nodeCount--;
+    }
+}
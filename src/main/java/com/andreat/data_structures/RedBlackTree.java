@@ -0,0 +1,376 @@
+package com.andreat.data_structures;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+public class RedBlackTree <T extends Comparable<T>> implements Iterable<T> {
+
+    private static final boolean RED = true;
+    private static final boolean BLACK = false;
+
+    class TreeNode<T extends Comparable<T>>{
+        T data;
+        TreeNode<T> left;
+        TreeNode<T> right;
+        TreeNode<T> parent;
+        boolean color;
+        int size;
+
+        public TreeNode(T data, boolean color, TreeNode<T> nil){
+            this.data = data;
+            this.left = nil;
+            this.right = nil;
+            this.parent = nil;
+            this.color = color;
+            this.size = 1;
+        }
+    }
+
+    // Shared black sentinel used in place of null children and parents
+    private final TreeNode<T> nil;
+    private TreeNode<T> root;
+    // Order-statistic walks over the size fields, stopping at nil (whose size is 0)
+    private final OrderStatistics<T, TreeNode<T>> statistics;
+
+    public RedBlackTree() {
+        nil = new TreeNode<>(null, BLACK, null);
+        nil.left = nil;
+        nil.right = nil;
+        nil.parent = nil;
+        nil.size = 0;
+        root = nil;
+        statistics = new OrderStatistics<T, TreeNode<T>>(nil) {
+            @Override
+            TreeNode<T> left(TreeNode<T> node) {
+                return node.left;
+            }
+
+            @Override
+            TreeNode<T> right(TreeNode<T> node) {
+                return node.right;
+            }
+
+            @Override
+            T data(TreeNode<T> node) {
+                return node.data;
+            }
+
+            @Override
+            int size(TreeNode<T> node) {
+                return node.size;
+            }
+        };
+    }
+
+    public int size() {
+        return root.size;
+    }
+
+    public boolean isEmpty() {
+        return root == nil;
+    }
+
+    public void insert(T data) {
+        TreeNode<T> parent = nil;
+        TreeNode<T> current = root;
+
+        while(current != nil) {
+            parent = current;
+            int cmp = data.compareTo(current.data);
+            if(cmp < 0) {
+                current = current.left;
+            } else if(cmp > 0) {
+                current = current.right;
+            } else {
+                return;
+            }
+        }
+
+        TreeNode<T> node = new TreeNode<>(data, RED, nil);
+        node.parent = parent;
+        if(parent == nil) {
+            root = node;
+        } else if(data.compareTo(parent.data) < 0) {
+            parent.left = node;
+        } else {
+            parent.right = node;
+        }
+        for(TreeNode<T> ancestor = parent; ancestor != nil; ancestor = ancestor.parent) {
+            ancestor.size++;
+        }
+
+        insertFixup(node);
+    }
+
+    private void insertFixup(TreeNode<T> node) {
+        while(node.parent.color == RED) {
+            TreeNode<T> grandparent = node.parent.parent;
+            if(node.parent == grandparent.left) {
+                TreeNode<T> uncle = grandparent.right;
+                if(uncle.color == RED) {
+                    node.parent.color = BLACK;
+                    uncle.color = BLACK;
+                    grandparent.color = RED;
+                    node = grandparent;
+                } else {
+                    if(node == node.parent.right) {
+                        node = node.parent;
+                        rotateLeft(node);
+                    }
+                    node.parent.color = BLACK;
+                    grandparent.color = RED;
+                    rotateRight(grandparent);
+                }
+            } else {
+                TreeNode<T> uncle = grandparent.left;
+                if(uncle.color == RED) {
+                    node.parent.color = BLACK;
+                    uncle.color = BLACK;
+                    grandparent.color = RED;
+                    node = grandparent;
+                } else {
+                    if(node == node.parent.left) {
+                        node = node.parent;
+                        rotateRight(node);
+                    }
+                    node.parent.color = BLACK;
+                    grandparent.color = RED;
+                    rotateLeft(grandparent);
+                }
+            }
+        }
+        root.color = BLACK;
+    }
+
+    public boolean search(T data) {
+        return findNode(data) != nil;
+    }
+
+    private TreeNode<T> findNode(T data) {
+        TreeNode<T> current = root;
+
+        while(current != nil) {
+            int cmp = data.compareTo(current.data);
+            if(cmp < 0) {
+                current = current.left;
+            } else if(cmp > 0) {
+                current = current.right;
+            } else {
+                return current;
+            }
+        }
+
+        return nil;
+    }
+
+    public void delete(T data) {
+        TreeNode<T> node = findNode(data);
+        if(node == nil) {
+            return;
+        }
+
+        TreeNode<T> removed = node;
+        boolean removedColor = removed.color;
+        TreeNode<T> replacement;
+
+        if(node.left == nil) {
+            replacement = node.right;
+            transplant(node, node.right);
+        } else if(node.right == nil) {
+            replacement = node.left;
+            transplant(node, node.left);
+        } else {
+            removed = minNode(node.right);
+            removedColor = removed.color;
+            replacement = removed.right;
+
+            if(removed.parent == node) {
+                replacement.parent = removed;
+            } else {
+                transplant(removed, removed.right);
+                removed.right = node.right;
+                removed.right.parent = removed;
+            }
+
+            transplant(node, removed);
+            removed.left = node.left;
+            removed.left.parent = removed;
+            removed.color = node.color;
+        }
+        for(TreeNode<T> ancestor = replacement.parent; ancestor != nil; ancestor = ancestor.parent) {
+            ancestor.size = ancestor.left.size + ancestor.right.size + 1;
+        }
+
+        if(removedColor == BLACK) {
+            deleteFixup(replacement);
+        }
+    }
+
+    private void deleteFixup(TreeNode<T> node) {
+        while(node != root && node.color == BLACK) {
+            if(node == node.parent.left) {
+                TreeNode<T> sibling = node.parent.right;
+                if(sibling.color == RED) {
+                    sibling.color = BLACK;
+                    node.parent.color = RED;
+                    rotateLeft(node.parent);
+                    sibling = node.parent.right;
+                }
+                if(sibling.left.color == BLACK && sibling.right.color == BLACK) {
+                    sibling.color = RED;
+                    node = node.parent;
+                } else {
+                    if(sibling.right.color == BLACK) {
+                        sibling.left.color = BLACK;
+                        sibling.color = RED;
+                        rotateRight(sibling);
+                        sibling = node.parent.right;
+                    }
+                    sibling.color = node.parent.color;
+                    node.parent.color = BLACK;
+                    sibling.right.color = BLACK;
+                    rotateLeft(node.parent);
+                    node = root;
+                }
+            } else {
+                TreeNode<T> sibling = node.parent.left;
+                if(sibling.color == RED) {
+                    sibling.color = BLACK;
+                    node.parent.color = RED;
+                    rotateRight(node.parent);
+                    sibling = node.parent.left;
+                }
+                if(sibling.right.color == BLACK && sibling.left.color == BLACK) {
+                    sibling.color = RED;
+                    node = node.parent;
+                } else {
+                    if(sibling.left.color == BLACK) {
+                        sibling.right.color = BLACK;
+                        sibling.color = RED;
+                        rotateLeft(sibling);
+                        sibling = node.parent.left;
+                    }
+                    sibling.color = node.parent.color;
+                    node.parent.color = BLACK;
+                    sibling.left.color = BLACK;
+                    rotateRight(node.parent);
+                    node = root;
+                }
+            }
+        }
+        node.color = BLACK;
+    }
+
+    private void transplant(TreeNode<T> target, TreeNode<T> replacement) {
+        if(target.parent == nil) {
+            root = replacement;
+        } else if(target == target.parent.left) {
+            target.parent.left = replacement;
+        } else {
+            target.parent.right = replacement;
+        }
+        replacement.parent = target.parent;
+    }
+
+    private TreeNode<T> minNode(TreeNode<T> node) {
+        while(node.left != nil) {
+            node = node.left;
+        }
+        return node;
+    }
+
+    private void rotateLeft(TreeNode<T> node) {
+        TreeNode<T> pivot = node.right;
+        node.right = pivot.left;
+        if(pivot.left != nil) {
+            pivot.left.parent = node;
+        }
+        pivot.parent = node.parent;
+        if(node.parent == nil) {
+            root = pivot;
+        } else if(node == node.parent.left) {
+            node.parent.left = pivot;
+        } else {
+            node.parent.right = pivot;
+        }
+        pivot.left = node;
+        node.parent = pivot;
+        pivot.size = node.size;
+        node.size = node.left.size + node.right.size + 1;
+    }
+
+    private void rotateRight(TreeNode<T> node) {
+        TreeNode<T> pivot = node.left;
+        node.left = pivot.right;
+        if(pivot.right != nil) {
+            pivot.right.parent = node;
+        }
+        pivot.parent = node.parent;
+        if(node.parent == nil) {
+            root = pivot;
+        } else if(node == node.parent.right) {
+            node.parent.right = pivot;
+        } else {
+            node.parent.left = pivot;
+        }
+        pivot.right = node;
+        node.parent = pivot;
+        pivot.size = node.size;
+        node.size = node.left.size + node.right.size + 1;
+    }
+
+    public int height() {
+        if(root == nil) {
+            return 0;
+        }
+
+        int height = 0;
+        ArrayDeque<TreeNode<T>> level = new ArrayDeque<>();
+        level.add(root);
+        while(!level.isEmpty()) {
+            height++;
+            for(int i = level.size(); i > 0; i--) {
+                TreeNode<T> node = level.poll();
+                if(node.left != nil) {
+                    level.add(node.left);
+                }
+                if(node.right != nil) {
+                    level.add(node.right);
+                }
+            }
+        }
+        return height;
+    }
+
+    public int rank(T data) {
+        return statistics.rank(root, data);
+    }
+
+    public T select(int k) {
+        return statistics.select(root, k);
+    }
+
+    public T floor(T data) {
+        return statistics.floor(root, data);
+    }
+
+    public T ceiling(T data) {
+        return statistics.ceiling(root, data);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return statistics.range(root, null, null);
+    }
+
+    public Iterable<T> range(T lo, T hi) {
+        return () -> statistics.range(root, lo, hi);
+    }
+
+    public void inorderTraversal(){
+        for(T data : this) {
+            System.out.print(data + " ");
+        }
+        System.out.println();
+    }
+}
@@ -0,0 +1,98 @@
+package com.andreat.data_structures;
+
+import java.util.Arrays;
+
+// Union-find whose unions can be undone in LIFO order. There is no path compression,
+// so each union changes a single parent pointer and rank; union by rank keeps find at
+// O(log n). snapshot() returns a position in the undo log and rollback() unwinds to it
+public class RollbackUnionFind {
+    private final int[] parent;
+    private final int[] rank;
+    private int numSets;
+
+    // Undo log: the root linked by each union and whether its new parent's rank grew
+    private int[] linkedRoots;
+    private boolean[] rankIncreased;
+    private int historySize;
+
+    public RollbackUnionFind(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of elements cannot be negative.");
+        }
+        parent = new int[n];
+        rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+        numSets = n;
+        linkedRoots = new int[16];
+        rankIncreased = new boolean[16];
+        historySize = 0;
+    }
+
+    public int find(int x) {
+        while (parent[x] != x) {
+            x = parent[x];
+        }
+
+        return x;
+    }
+
+    // Returns false, and records nothing, if x and y were already in the same set
+    public boolean union(int x, int y) {
+        int rootX = find(x);
+        int rootY = find(y);
+
+        if (rootX == rootY) return false;
+
+        if (rank[rootX] < rank[rootY]) {
+            int tmp = rootX;
+            rootX = rootY;
+            rootY = tmp;
+        }
+        boolean increased = rank[rootX] == rank[rootY];
+        parent[rootY] = rootX;
+        if (increased) {
+            rank[rootX]++;
+        }
+        numSets--;
+
+        if (historySize == linkedRoots.length) {
+            linkedRoots = Arrays.copyOf(linkedRoots, historySize * 2);
+            rankIncreased = Arrays.copyOf(rankIncreased, historySize * 2);
+        }
+        linkedRoots[historySize] = rootY;
+        rankIncreased[historySize] = increased;
+        historySize++;
+        return true;
+    }
+
+    public boolean connected(int x, int y) {
+        return find(x) == find(y);
+    }
+
+    public int countSets() {
+        return numSets;
+    }
+
+    public int snapshot() {
+        return historySize;
+    }
+
+    // Undoes every union performed after the given snapshot
+    public void rollback(int snapshot) {
+        if (snapshot < 0 || snapshot > historySize) {
+            throw new IllegalArgumentException("Invalid snapshot: " + snapshot);
+        }
+        while (historySize > snapshot) {
+            historySize--;
+            int child = linkedRoots[historySize];
+            int root = parent[child];
+            if (rankIncreased[historySize]) {
+                rank[root]--;
+            }
+            parent[child] = child;
+            numSets++;
+        }
+    }
+}
@@ -1,37 +1,82 @@
 package com.andreat.data_structures;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
 public class Trie {
 
     class TrieNode {
         private static final int ALPHABET_SIZE = 26;
         TrieNode[] children;
         boolean isEndOfWord;
+        long weight;
+        // Largest weight of a word in this subtree, NO_SCORE if there is none
+        long maxScore;
 
         public TrieNode() {
             children = new TrieNode[ALPHABET_SIZE];
             isEndOfWord = false;
+            weight = 0;
+            maxScore = NO_SCORE;
             for(int i = 0; i < ALPHABET_SIZE; i++) {
                 children[i] = null;
             }
         }
     }
 
+    private static final long NO_SCORE = Long.MIN_VALUE;
+
     private TrieNode root;
 
     public Trie() {
         root = new TrieNode();
     }
 
+    // Inserts word with weight 0; a word already present keeps its weight
     public void insert(String word) {
+        insert(word, 0, true);
+    }
+
+    // Inserts word with the given weight, replacing its previous weight if already present.
+    // Long.MIN_VALUE is reserved to mark subtrees without words
+    public void insert(String word, long weight) {
+        if(weight == NO_SCORE) {
+            throw new IllegalArgumentException("Weight cannot be Long.MIN_VALUE.");
+        }
+        insert(word, weight, false);
+    }
+
+    private void insert(String word, long weight, boolean keepWeight) {
+        TrieNode[] path = new TrieNode[word.length() + 1];
         TrieNode current = root;
+        path[0] = current;
         for(int i = 0; i < word.length(); i++) {
             int index = word.charAt(i) - 'a';
             if(current.children[index] == null) {
                 current.children[index] = new TrieNode();
             }
             current = current.children[index];
+            path[i + 1] = current;
+        }
+        if(!keepWeight || !current.isEndOfWord) {
+            current.weight = weight;
         }
         current.isEndOfWord = true;
+
+        for(int i = path.length - 1; i >= 0; i--) {
+            updateMaxScore(path[i]);
+        }
+    }
+
+    private void updateMaxScore(TrieNode node) {
+        long max = node.isEndOfWord ? node.weight : NO_SCORE;
+        for(TrieNode child : node.children) {
+            if(child != null && child.maxScore > max) {
+                max = child.maxScore;
+            }
+        }
+        node.maxScore = max;
     }
 
     public boolean search(String word) {
@@ -58,8 +103,101 @@ public class Trie {
         return true;
     }
 
+    // All the words, in alphabetical order
+    public List<String> words() {
+        List<String> words = new ArrayList<>();
+        collectWords(root, new StringBuilder(), words);
+        return words;
+    }
+
+    private void collectWords(TrieNode current, StringBuilder prefix, List<String> words) {
+        if(current.isEndOfWord) {
+            words.add(prefix.toString());
+        }
+        for(int i = 0; i < current.children.length; i++) {
+            if(current.children[i] != null) {
+                prefix.append((char) ('a' + i));
+                collectWords(current.children[i], prefix, words);
+                prefix.setLength(prefix.length() - 1);
+            }
+        }
+    }
+
+    private static class Candidate {
+        final TrieNode node;
+        final String text;
+        final long score;
+        // A word ready to be returned rather than a subtree still to be expanded
+        final boolean complete;
+
+        Candidate(TrieNode node, String text, long score, boolean complete) {
+            this.node = node;
+            this.text = text;
+            this.score = score;
+            this.complete = complete;
+        }
+    }
+
+    // The k heaviest words starting with prefix, heaviest first (ties in alphabetical order).
+    // Subtrees are expanded best-first by their cached max score, so only the nodes
+    // that can still contain one of the k results are visited
+    public List<String> topK(String prefix, int k) {
+        List<String> result = new ArrayList<>();
+        TrieNode current = root;
+        for(int i = 0; i < prefix.length() && current != null; i++) {
+            current = current.children[prefix.charAt(i) - 'a'];
+        }
+        if(current == null || current.maxScore == NO_SCORE || k <= 0) {
+            return result;
+        }
+
+        PriorityQueue<Candidate> queue = new PriorityQueue<>((a, b) -> {
+            if(a.score != b.score) {
+                return Long.compare(b.score, a.score);
+            }
+            // A subtree's text is a prefix of all its words, so ordering by text
+            // expands it before any complete word that follows it alphabetically
+            int cmp = a.text.compareTo(b.text);
+            if(cmp != 0) {
+                return cmp;
+            }
+            return a.complete == b.complete ? 0 : a.complete ? -1 : 1;
+        });
+        queue.add(new Candidate(current, prefix, current.maxScore, false));
+
+        while(!queue.isEmpty() && result.size() < k) {
+            Candidate candidate = queue.poll();
+            if(candidate.complete) {
+                result.add(candidate.text);
+                continue;
+            }
+            TrieNode node = candidate.node;
+            if(node.isEndOfWord) {
+                queue.add(new Candidate(node, candidate.text, node.weight, true));
+            }
+            for(int i = 0; i < node.children.length; i++) {
+                TrieNode child = node.children[i];
+                if(child != null && child.maxScore != NO_SCORE) {
+                    queue.add(new Candidate(child, candidate.text + (char) ('a' + i), child.maxScore, false));
+                }
+            }
+        }
+        return result;
+    }
+
     public void delete(String word) {
         deleteRec(root, word, 0);
+
+        // Refresh the cached max scores along what is left of the path, bottom-up
+        TrieNode[] path = new TrieNode[word.length() + 1];
+        int length = 0;
+        for(TrieNode current = root; current != null && length <= word.length(); length++) {
+            path[length] = current;
+            current = length < word.length() ? current.children[word.charAt(length) - 'a'] : null;
+        }
+        for(int i = length - 1; i >= 0; i--) {
+            updateMaxScore(path[i]);
+        }
     }
 
     private boolean deleteRec(TrieNode current, String word, int depth){
@@ -1,56 +1,98 @@
 package com.andreat.data_structures;
 
+import java.util.Arrays;
+
 public class UnionFind {
+    private static final int DEFAULT_CAPACITY = 16;
+
     private int[] parent;
-    private int[] rank;
+    // Number of elements in the component, only meaningful at roots
+    private int[] size;
+    private int numElements;
+    private int numSets;
+
+    public UnionFind() {
+        this(0);
+    }
 
     public UnionFind(int n) {
-        parent = new int[n];
-        rank = new int[n];
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of elements cannot be negative.");
+        }
+        parent = new int[Math.max(n, DEFAULT_CAPACITY)];
+        size = new int[parent.length];
 
         for (int i = 0; i < n; i++) {
             parent[i] = i;
-            rank[i] = 0;
+            size[i] = 1;
+        }
+        numElements = n;
+        numSets = n;
+    }
+
+    // Adds a new singleton set and returns its element
+    public int add() {
+        if (numElements == parent.length) {
+            int newCapacity = parent.length + (parent.length >> 1);
+            parent = Arrays.copyOf(parent, newCapacity);
+            size = Arrays.copyOf(size, newCapacity);
         }
+        int x = numElements++;
+        parent[x] = x;
+        size[x] = 1;
+        numSets++;
+        return x;
     }
 
+    private void checkElement(int x) {
+        if (x < 0 || x >= numElements) {
+            throw new IndexOutOfBoundsException("Invalid element: " + x);
+        }
+    }
+
+    // Path halving: every visited node is linked to its grandparent, in a single iterative pass
     public int find(int x) {
-        if (parent[x] != x) {
-            parent[x] = find(parent[x]);
+        checkElement(x);
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
         }
 
-        return parent[x];
+        return x;
     }
 
-    public void union(int x, int y) {
+    // Returns false if x and y were already in the same set
+    public boolean union(int x, int y) {
         int rootX = find(x);
         int rootY = find(y);
 
-        if (rootX == rootY) return;
+        if (rootX == rootY) return false;
 
-        if (rank[rootX] < rank[rootY]) {
-            parent[rootX] = rootY;
-        } else if (rank[rootX] > rank[rootY]) {
-            parent[rootY] = rootX;
-        } else {
-            parent[rootY] = rootX;
-            rank[rootX]++;
+        if (size[rootX] < size[rootY]) {
+            int tmp = rootX;
+            rootX = rootY;
+            rootY = tmp;
         }
+        parent[rootY] = rootX;
+        size[rootX] += size[rootY];
+        numSets--;
+        return true;
     }
 
     public boolean connected(int x, int y) {
         return find(x) == find(y);
     }
 
-    public int countSets() {
-        int count = 0;
+    // Number of elements in the set containing x
+    public int componentSize(int x) {
+        return size[find(x)];
+    }
 
-        for (int i = 0; i < parent.length; i++) {
-            if (parent[i] == i) {
-                count++;
-            }
-        }
+    public int size() {
+        return numElements;
+    }
 
-        return count;
+    public int countSets() {
+        return numSets;
     }
 }
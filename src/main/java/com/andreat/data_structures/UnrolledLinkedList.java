@@ -0,0 +1,194 @@
+package com.andreat.data_structures;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Linked list of fixed-size array chunks: one node per chunk instead of one per
+// element, O(1) appends through the tail pointer and sequential scans over arrays
+public class UnrolledLinkedList<T> implements Iterable<T> {
+
+    static class Chunk {
+        final Object[] items;
+        int count;
+        Chunk next;
+
+        Chunk(int capacity) {
+            this.items = new Object[capacity];
+            this.count = 0;
+            this.next = null;
+        }
+    }
+
+    private static final int DEFAULT_CHUNK_CAPACITY = 64;
+
+    private final int chunkCapacity;
+    private Chunk head;
+    private Chunk tail;
+    private int size;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    public UnrolledLinkedList(int chunkCapacity) {
+        if(chunkCapacity < 2) {
+            throw new IllegalArgumentException("Chunk capacity must be at least 2.");
+        }
+        this.chunkCapacity = chunkCapacity;
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    public void add(T data) {
+        if(tail == null) {
+            head = tail = new Chunk(chunkCapacity);
+        } else if(tail.count == chunkCapacity) {
+            // Appends fill chunks completely; nothing is ever inserted behind the tail
+            tail.next = new Chunk(chunkCapacity);
+            tail = tail.next;
+        }
+        tail.items[tail.count++] = data;
+        size++;
+    }
+
+    public void addFirst(T data) {
+        if(head == null || head.count == chunkCapacity) {
+            Chunk chunk = new Chunk(chunkCapacity);
+            chunk.next = head;
+            head = chunk;
+            if(tail == null) {
+                tail = chunk;
+            }
+        }
+        System.arraycopy(head.items, 0, head.items, 1, head.count);
+        head.items[0] = data;
+        head.count++;
+        size++;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if(index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        Chunk chunk = head;
+        while(index >= chunk.count) {
+            index -= chunk.count;
+            chunk = chunk.next;
+        }
+        return (T) chunk.items[index];
+    }
+
+    public boolean remove(T data) {
+        Chunk previous = null;
+        for(Chunk chunk = head; chunk != null; previous = chunk, chunk = chunk.next) {
+            for(int i = 0; i < chunk.count; i++) {
+                if(data.equals(chunk.items[i])) {
+                    System.arraycopy(chunk.items, i + 1, chunk.items, i, chunk.count - i - 1);
+                    chunk.items[--chunk.count] = null;
+                    size--;
+                    compact(previous, chunk);
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    // Unlinks an emptied chunk, or merges an under-half chunk with its successor when both fit
+    private void compact(Chunk previous, Chunk chunk) {
+        if(chunk.count == 0) {
+            if(previous == null) {
+                head = chunk.next;
+            } else {
+                previous.next = chunk.next;
+            }
+            if(tail == chunk) {
+                tail = previous;
+            }
+            return;
+        }
+
+        Chunk next = chunk.next;
+        if(next != null && chunk.count < chunkCapacity / 2 && chunk.count + next.count <= chunkCapacity) {
+            System.arraycopy(next.items, 0, chunk.items, chunk.count, next.count);
+            chunk.count += next.count;
+            chunk.next = next.next;
+            if(tail == next) {
+                tail = chunk;
+            }
+        }
+    }
+
+    public boolean contains(T data) {
+        for(Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            Object[] items = chunk.items;
+            for(int i = 0, n = chunk.count; i < n; i++) {
+                if(data.equals(items[i])) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Chunk chunk = head;
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                while(chunk != null && index >= chunk.count) {
+                    chunk = chunk.next;
+                    index = 0;
+                }
+                return chunk != null;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (T) chunk.items[index++];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("[");
+        Iterator<T> it = iterator();
+        while(it.hasNext()) {
+            sb.append(it.next());
+            if(it.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+}
@@ -1,5 +1,9 @@
 package com.andreat.data_structures;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 public class Utilizzo {
     public static void main(String[] args) {
         // Esempio di utilizzo di Lista Concatenata
@@ -13,6 +17,14 @@ public class Utilizzo {
         list.remove(20);
         System.out.println("Dopo la rimozione: " + list);
         System.out.println("Contiene 30? " + list.contains(30));
+        UnrolledLinkedList<Integer> unrolledList = new UnrolledLinkedList<>(4);
+        for (int i = 1; i <= 10; i++) {
+            unrolledList.add(i * 10);
+        }
+        unrolledList.addFirst(5);
+        unrolledList.remove(50);
+        System.out.println("Lista a blocchi: " + unrolledList);
+        System.out.println("Elemento in posizione 5: " + unrolledList.get(5));
         System.out.println();
 
         // Esempio di utilizzo di Albero Binario di Ricerca
@@ -33,6 +45,73 @@ public class Utilizzo {
         bst.inorderTraversal();
         System.out.println();
 
+        // Esempio di utilizzo di Albero Rosso-Nero
+        System.out.println("===== ALBERO ROSSO-NERO =====");
+        RedBlackTree<Integer> rbt = new RedBlackTree<>();
+        for (int i = 1; i <= 1000; i++) {
+            rbt.insert(i); // Inserimento ordinato: un BST degenererebbe in una lista
+        }
+        System.out.println("Altezza dopo 1000 inserimenti ordinati: " + rbt.height());
+        System.out.println("Contiene 500? " + rbt.search(500));
+        rbt.delete(500);
+        System.out.println("Contiene 500 dopo la rimozione? " + rbt.search(500));
+        System.out.println("Rango di 600: " + rbt.rank(600));
+        System.out.println("Elemento in posizione 899 (90° percentile): " + rbt.select(899));
+        System.out.println("Floor di 500: " + rbt.floor(500) + ", ceiling di 500: " + rbt.ceiling(500));
+        System.out.print("Elementi tra 495 e 505: ");
+        for (int value : rbt.range(495, 505)) {
+            System.out.print(value + " ");
+        }
+        System.out.println();
+        System.out.println();
+
+        // Esempio di utilizzo di Skip List concorrente
+        System.out.println("===== SKIP LIST CONCORRENTE =====");
+        ConcurrentSkipListMap<Integer, String> skipList = new ConcurrentSkipListMap<>();
+        Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            final int offset = t;
+            writers[t] = new Thread(() -> {
+                for (int i = offset; i < 40; i += writers.length) {
+                    skipList.put(i, "v" + i);
+                }
+            });
+            writers[t].start();
+        }
+        for (Thread writer : writers) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        skipList.remove(12);
+        System.out.print("Chiavi tra 10 e 15: ");
+        for (java.util.Map.Entry<Integer, String> entry : skipList.range(10, 15)) {
+            System.out.print(entry.getKey() + " ");
+        }
+        System.out.println();
+        System.out.println();
+
+        // Esempio di utilizzo di B+-tree
+        System.out.println("===== B+-TREE =====");
+        long[] sortedKeys = new long[100];
+        String[] labels = new String[100];
+        for (int i = 0; i < sortedKeys.length; i++) {
+            sortedKeys[i] = i * 10L;
+            labels[i] = "v" + i;
+        }
+        BPlusTree<String> bPlusTree = BPlusTree.bulkLoad(sortedKeys, labels, 8);
+        bPlusTree.insert(55L, "nuovo");
+        System.out.println("Valore di 550: " + bPlusTree.search(550L));
+        System.out.print("Chiavi tra 40 e 90: ");
+        BPlusTree<String>.Cursor cursor = bPlusTree.range(40L, 90L);
+        while (cursor.next()) {
+            System.out.print(cursor.key() + "=" + cursor.value() + " ");
+        }
+        System.out.println();
+        System.out.println();
+
         // Esempio di utilizzo di Max Heap
         System.out.println("===== MAX HEAP =====");
         MaxHeap<Integer> maxHeap = new MaxHeap<>();
@@ -45,6 +124,54 @@ public class Utilizzo {
         System.out.println("Max value: " + maxHeap.peek());
         System.out.println("Extracted max: " + maxHeap.extractMax());
         System.out.println("Heap after extraction: " + maxHeap);
+        MaxHeap<Integer> fourAryHeap = new MaxHeap<>(4);
+        for (int i = 1; i <= 10; i++) {
+            fourAryHeap.insert(i);
+        }
+        System.out.println("Top 3 from 4-ary heap: " + fourAryHeap.extractMaxBatch(3));
+        IntMaxHeap intMaxHeap = new IntMaxHeap(new int[]{10, 30, 20, 5, 1});
+        System.out.println("Int Max Heap: " + intMaxHeap);
+        System.out.println("Replaced top: " + intMaxHeap.replaceTop(15));
+        System.out.println("Max value after replaceTop: " + intMaxHeap.peek());
+        LongMinHeap longMinHeap = new LongMinHeap(new long[]{40L, 10L, 30L});
+        System.out.println("Extracted min: " + longMinHeap.extractMin());
+        MultiQueue<Integer> multiQueue = new MultiQueue<>(4);
+        for (int i = 1; i <= 10; i++) {
+            multiQueue.insert(i);
+        }
+        System.out.println("Strict poll from MultiQueue: " + multiQueue.pollStrict());
+        System.out.println("Relaxed poll from MultiQueue: " + multiQueue.poll());
+        System.out.println();
+
+        // Esempio di utilizzo di Code lock-free a buffer circolare
+        System.out.println("===== CODE LOCK-FREE =====");
+        MpscArrayQueue<String> mpscQueue = new MpscArrayQueue<>(8);
+        Thread[] producers = new Thread[3];
+        for (int p = 0; p < producers.length; p++) {
+            final int id = p;
+            producers[p] = new Thread(() -> {
+                for (int i = 0; i < 2; i++) {
+                    while (!mpscQueue.offer("P" + id + "-" + i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            producers[p].start();
+        }
+        for (Thread producer : producers) {
+            try {
+                producer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        StringBuilder drained = new StringBuilder();
+        int drainedCount = mpscQueue.drain(item -> drained.append(item).append(' '), 16);
+        System.out.println("Elementi svuotati dalla coda MPSC (" + drainedCount + "): " + drained);
+        MpmcArrayQueue<Integer> mpmcQueue = new MpmcArrayQueue<>(4);
+        int[] next = {1};
+        System.out.println("Elementi inseriti con fill: " + mpmcQueue.fill(() -> next[0]++, 10));
+        System.out.println("Primo elemento della coda MPMC: " + mpmcQueue.poll());
         System.out.println();
 
         // Esempio di utilizzo di Tabella Hash
@@ -58,6 +185,67 @@ public class Utilizzo {
         System.out.println("Valore aggiornato di 'due': " + map.get("due"));
         map.remove("uno");
         System.out.println("Valore di 'uno' dopo la rimozione: " + map.get("uno"));
+        HashMap<Integer, Integer> incrementalMap = new HashMap<>(true);
+        for (int i = 0; i < 100; i++) {
+            incrementalMap.put(i, i * i);
+        }
+        System.out.println("Bucket ancora da migrare: " + incrementalMap.pendingMigration());
+        System.out.println("Valore di 9: " + incrementalMap.get(9));
+        HashMap<String, Integer> seededMap = new HashMap<>(key -> key.hashCode() ^ 0x5bd1e995);
+        seededMap.put("chiave", 1);
+        System.out.println("Valore con strategia di hash personalizzata: " + seededMap.get("chiave"));
+        System.out.println();
+
+        // Esempio di utilizzo di Tabelle Hash a indirizzamento aperto con chiavi primitive
+        System.out.println("===== TABELLE HASH PRIMITIVE =====");
+        IntIntHashMap intMap = new IntIntHashMap();
+        intMap.put(1, 100);
+        intMap.put(2, 200);
+        intMap.put(0, 42);
+        System.out.println("Valore di 2: " + intMap.get(2));
+        intMap.remove(1);
+        System.out.println("Contiene 1 dopo la rimozione? " + intMap.containsKey(1));
+        System.out.println("Dimensione: " + intMap.size());
+        LongObjectHashMap<String> longMap = new LongObjectHashMap<>();
+        longMap.put(10_000_000_000L, "dieci miliardi");
+        longMap.put(7L, "sette");
+        System.out.println("Valore di 10000000000: " + longMap.get(10_000_000_000L));
+        try (OffHeapLongLongHashMap offHeapMap = new OffHeapLongLongHashMap(1000)) {
+            offHeapMap.put(123L, 456L);
+            System.out.println("Valore fuori heap di 123: " + offHeapMap.get(123L));
+            System.out.println("Byte fuori heap: " + offHeapMap.offHeapBytes());
+            Path snapshot = Files.createTempFile("hashmap", ".snapshot");
+            offHeapMap.save(snapshot);
+            try (MappedLongLongHashMap mappedMap = MappedLongLongHashMap.open(snapshot)) {
+                System.out.println("Valore di 123 letto dal file mappato: " + mappedMap.get(123L));
+            }
+            Files.delete(snapshot);
+        } catch (IOException e) {
+            System.out.println("Errore durante il salvataggio: " + e.getMessage());
+        }
+        System.out.println();
+
+        // Esempio di utilizzo di Tabella Hash concorrente
+        System.out.println("===== TABELLA HASH CONCORRENTE =====");
+        ConcurrentHashMap<String, Integer> wordCount = new ConcurrentHashMap<>();
+        Thread[] workers = new Thread[4];
+        for (int t = 0; t < workers.length; t++) {
+            workers[t] = new Thread(() -> {
+                for (String word : new String[]{"uno", "due", "due", "tre"}) {
+                    wordCount.merge(word, 1, Integer::sum);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        System.out.println("Occorrenze di 'due': " + wordCount.get("due"));
+        System.out.println("Valore calcolato di 'quattro': " + wordCount.computeIfAbsent("quattro", String::length));
         System.out.println();
 
         // Esempio di utilizzo di Grafo con liste di adiacenza
@@ -96,6 +284,18 @@ public class Utilizzo {
         graphMatrix.bfs(0);
         System.out.println("\n");
 
+        // Esempio di utilizzo di Grafo CSR
+        System.out.println("===== GRAFO (CSR) =====");
+        CsrGraph csrGraph = CsrGraph.fromEdges(4,
+                new int[]{0, 0, 1, 2}, // A, A, B, C
+                new int[]{1, 2, 3, 3}, // B, C, D, D
+                new int[]{5, 1, 2, 7});
+        System.out.println("Archi: " + csrGraph.numEdges() + ", grado di 0: " + csrGraph.degree(0));
+        System.out.println("Vicini di 0: " + java.util.Arrays.toString(csrGraph.neighbors(0)));
+        System.out.println("Vicini di 3 nel grafo trasposto: " + java.util.Arrays.toString(csrGraph.transpose().neighbors(3)));
+        System.out.println("Memoria occupata: " + csrGraph.sizeInBytes() + " byte");
+        System.out.println();
+
         // Esempio di utilizzo di Trie
         System.out.println("===== TRIE =====");
         Trie trie = new Trie();
@@ -109,6 +309,45 @@ public class Utilizzo {
         trie.delete("cane");
         System.out.println("Contiene 'cane' dopo la rimozione? " + trie.search("cane"));
         System.out.println("Contiene ancora 'casa'? " + trie.search("casa"));
+        trie.insert("cavallo", 40);
+        trie.insert("cammino", 75);
+        trie.insert("casa", 90);
+        System.out.println("Migliori 2 completamenti di 'ca': " + trie.topK("ca", 2));
+        try {
+            Path trieFile = Files.createTempFile("trie", ".dat");
+            try (DoubleArrayTrie builtTrie = DoubleArrayTrie.build(trie)) {
+                builtTrie.save(trieFile);
+            }
+            try (DoubleArrayTrie mappedTrie = DoubleArrayTrie.open(trieFile)) {
+                System.out.println("Contiene 'casa' (trie mappato)? " + mappedTrie.search("casa"));
+                System.out.println("Parole nel trie mappato: " + mappedTrie.size());
+            }
+            Files.delete(trieFile);
+        } catch (IOException e) {
+            System.out.println("Errore durante il salvataggio: " + e.getMessage());
+        }
+        CompactTrie compactTrie = new CompactTrie();
+        compactTrie.insert("Città");
+        compactTrie.insert("città");
+        compactTrie.insert("東京");
+        System.out.println("Contiene 'Città'? " + compactTrie.search("Città"));
+        System.out.println("Inizia con '東'? " + compactTrie.startsWith("東"));
+        System.out.println("Nodi del trie compatto: " + compactTrie.nodeCount());
+        RadixTree radixTree = new RadixTree();
+        radixTree.insert("https://example.com/prodotti/1");
+        radixTree.insert("https://example.com/prodotti/2");
+        radixTree.insert("https://example.com/utenti");
+        System.out.println("Inizia con 'https://example.com/prod'? " + radixTree.startsWith("https://example.com/prod"));
+        System.out.println("Nodi del radix tree: " + radixTree.nodeCount());
+        radixTree.delete("https://example.com/utenti");
+        System.out.println("Nodi dopo la rimozione: " + radixTree.nodeCount());
+        ConcurrentTrie concurrentTrie = new ConcurrentTrie();
+        concurrentTrie.insert("gatto");
+        ConcurrentTrie trieSnapshot = concurrentTrie.snapshot();
+        concurrentTrie.insert("gattino");
+        System.out.println("Parole nel trie concorrente: " + concurrentTrie.size()
+                + ", nello snapshot: " + trieSnapshot.size());
+        System.out.println("Lo snapshot contiene 'gattino'? " + trieSnapshot.search("gattino"));
         System.out.println();
 
         // Esempio di utilizzo di Union-Find
@@ -126,5 +365,15 @@ public class Utilizzo {
         uf.union(8, 0);
         System.out.println("0 e 9 sono connessi dopo l'unione? " + uf.connected(0, 9));
         System.out.println("Numero di insiemi distinti: " + uf.countSets());
+        int nuovo = uf.add();
+        uf.union(nuovo, 9);
+        System.out.println("Dimensione dell'insieme di " + nuovo + ": " + uf.componentSize(nuovo));
+        RollbackUnionFind rollbackUf = new RollbackUnionFind(4);
+        rollbackUf.union(0, 1);
+        int snapshot = rollbackUf.snapshot();
+        rollbackUf.union(1, 2);
+        System.out.println("0 e 2 sono connessi? " + rollbackUf.connected(0, 2));
+        rollbackUf.rollback(snapshot);
+        System.out.println("0 e 2 sono connessi dopo il rollback? " + rollbackUf.connected(0, 2));
     }
 }
@@ -0,0 +1,150 @@
+package com.andreat.data_structures;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Unit tests for the mapping functions of {@link ConcurrentHashMap} that
+ * update the map they are called on.
+ */
+public class ConcurrentHashMapTest
+    extends TestCase
+{
+    public ConcurrentHashMapTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( ConcurrentHashMapTest.class );
+    }
+
+    // Keys 1 and 9 share bin 1 of the initial 8-slot table. The functions below put
+    // keys 1002 + 8j, which never land in that bin, so only a resize reaches it
+    private static final int FIRST = 1;
+    private static final int COLLIDING = 9;
+
+    public void testComputeIfAbsentThatResizesItsBinIsRejectedOrApplied()
+    {
+        int rejected = 0;
+        for ( int n = 1; n < 300; n++ )
+        {
+            int count = n;
+            ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>( 4 );
+            map.put( FIRST, 1 );
+            boolean threw = false;
+            try
+            {
+                map.computeIfAbsent( COLLIDING, k -> putKeys( map, 1002, 8, count ) );
+            }
+            catch ( IllegalStateException e )
+            {
+                threw = true;
+                rejected++;
+            }
+            if ( !threw )
+            {
+                assertEquals( Integer.valueOf( 7 ), map.get( COLLIDING ) );
+            }
+            assertEquals( "n = " + n, countPresent( map, 1002, 8, n ), map.size() );
+        }
+        assertTrue( rejected > 0 );
+    }
+
+    public void testMergeThatResizesItsBinIsRejectedOrApplied()
+    {
+        int rejected = 0;
+        for ( int n = 1; n < 300; n++ )
+        {
+            int count = n;
+            ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>( 4 );
+            map.put( FIRST, 1 );
+            boolean threw = false;
+            try
+            {
+                map.merge( FIRST, 5, ( a, b ) -> {
+                    putKeys( map, 1002, 8, count );
+                    return a + b;
+                } );
+            }
+            catch ( IllegalStateException e )
+            {
+                threw = true;
+                rejected++;
+            }
+            assertEquals( "n = " + n, Integer.valueOf( threw ? 1 : 6 ), map.get( FIRST ) );
+            assertEquals( "n = " + n, countPresent( map, 1002, 8, n ), map.size() );
+        }
+        assertTrue( rejected > 0 );
+    }
+
+    public void testComputeIfAbsentOnEmptyBinCompletesResizeStartedByItsFunction()
+    {
+        // Keys 1001 + 8j never land in bin 2, so only the resize reaches the reserved bin
+        ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>( 4 );
+        map.put( FIRST, 1 );
+        assertEquals( Integer.valueOf( 7 ), map.computeIfAbsent( 2, k -> putKeys( map, 1001, 8, 200 ) ) );
+        assertEquals( Integer.valueOf( 7 ), map.get( 2 ) );
+        assertEquals( 202, map.size() );
+        assertEquals( 202, countPresent( map, 1001, 8, 200 ) );
+
+        // The resize must have finished, or later puts would never grow the table again
+        for ( int i = 0; i < 100000; i++ )
+        {
+            map.put( 5000 + i, i );
+        }
+        assertEquals( 100202, map.size() );
+        assertEquals( Integer.valueOf( 7 ), map.get( 2 ) );
+    }
+
+    public void testPutIntoReservedBinFromMappingFunctionThrows()
+    {
+        ConcurrentHashMap<Integer, String> map = new ConcurrentHashMap<>();
+        try
+        {
+            map.computeIfAbsent( 1, k -> {
+                map.put( 1, "nested" );
+                return "outer";
+            } );
+            fail( "Expected IllegalStateException" );
+        }
+        catch ( IllegalStateException e )
+        {
+            assertEquals( "Recursive update", e.getMessage() );
+        }
+        assertEquals( 0, map.size() );
+        assertNull( map.get( 1 ) );
+    }
+
+    private static Integer putKeys( ConcurrentHashMap<Integer, Integer> map, int first, int step, int count )
+    {
+        for ( int j = 0; j < count; j++ )
+        {
+            map.put( first + step * j, j );
+        }
+        return 7;
+    }
+
+    // Entries reachable through get among the keys used by these tests
+    private static int countPresent( ConcurrentHashMap<Integer, Integer> map, int first, int step, int count )
+    {
+        int present = 0;
+        for ( int key : new int[]{ FIRST, 2, COLLIDING } )
+        {
+            if ( map.get( key ) != null )
+            {
+                present++;
+            }
+        }
+        for ( int j = 0; j < count; j++ )
+        {
+            if ( map.get( first + step * j ) != null )
+            {
+                present++;
+            }
+        }
+        return present;
+    }
+}